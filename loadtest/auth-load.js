@@ -0,0 +1,112 @@
+// Load test for comparing platform and virtual request threads.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e EMAIL=load@example.com -e PASSWORD=secret \
+//          -e THREAD_MODE=virtual loadtest/auth-load.js
+//
+// See loadtest/README.md for the full procedure.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const EMAIL = __ENV.EMAIL;
+const PASSWORD = __ENV.PASSWORD;
+const VUS = parseInt(__ENV.VUS || '1000', 10);
+const DURATION = __ENV.DURATION || '2m';
+const THREAD_MODE = __ENV.THREAD_MODE || 'unknown';
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+export const options = {
+    scenarios: {
+        // Authenticated reads: JWT validation plus an occasional user-row lookup.
+        me: {
+            executor: 'constant-vus',
+            exec: 'me',
+            vus: VUS,
+            duration: DURATION,
+        },
+        // Logins: BCrypt on the hashing pool plus JDBC writes for the refresh token.
+        login: {
+            executor: 'constant-arrival-rate',
+            exec: 'login',
+            rate: parseInt(__ENV.LOGIN_RATE || '20', 10),
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 50,
+            maxVUs: 200,
+        },
+        // Forgot-password: request thread does a cheap enqueue, JDBC and SMTP happen in the background.
+        forgotPassword: {
+            executor: 'constant-arrival-rate',
+            exec: 'forgotPassword',
+            rate: parseInt(__ENV.FORGOT_PASSWORD_RATE || '10', 10),
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 20,
+            maxVUs: 100,
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(90)', 'p(95)', 'p(99)', 'max'],
+    // Per-scenario sub-metrics only show up in the summary when they have a threshold.
+    thresholds: {
+        'http_req_failed{scenario:me}': ['rate<0.01'],
+        'http_req_duration{scenario:me}': ['p(99)<500'],
+        'http_reqs{scenario:me}': ['count>0'],
+        'http_req_duration{scenario:login}': ['max>=0'],
+        'http_reqs{scenario:login}': ['count>0'],
+        'http_req_duration{scenario:forgotPassword}': ['max>=0'],
+        'http_reqs{scenario:forgotPassword}': ['count>0'],
+    },
+};
+
+export function setup() {
+    if (!EMAIL || !PASSWORD) {
+        throw new Error('EMAIL and PASSWORD of a verified account are required');
+    }
+    const response = http.post(`${BASE_URL}/api/v1/auth/login`,
+        JSON.stringify({ email: EMAIL, password: PASSWORD }), { headers: JSON_HEADERS });
+    if (response.status !== 200) {
+        throw new Error(`Login failed with status ${response.status}`);
+    }
+    return { token: response.json('data.token') };
+}
+
+export function me(data) {
+    const response = http.get(`${BASE_URL}/api/v1/auth/me`, {
+        headers: { Authorization: `Bearer ${data.token}` },
+    });
+    check(response, { 'me 200': (r) => r.status === 200 });
+}
+
+export function login() {
+    const response = http.post(`${BASE_URL}/api/v1/auth/login`,
+        JSON.stringify({ email: EMAIL, password: PASSWORD }), { headers: JSON_HEADERS });
+    // 503 means the hashing queue was full, which is the expected overload response.
+    check(response, { 'login 200 or 503': (r) => r.status === 200 || r.status === 503 });
+}
+
+export function forgotPassword() {
+    const response = http.post(`${BASE_URL}/api/v1/auth/forgot-password`,
+        JSON.stringify({ email: EMAIL }), { headers: JSON_HEADERS });
+    check(response, { 'forgot-password 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+    return {
+        [`loadtest/results/${THREAD_MODE}.json`]: JSON.stringify(data, null, 2),
+        stdout: summaryLine(data),
+    };
+}
+
+function summaryLine(data) {
+    const lines = [`thread mode: ${THREAD_MODE}`];
+    for (const scenario of ['me', 'login', 'forgotPassword']) {
+        const duration = data.metrics[`http_req_duration{scenario:${scenario}}`];
+        const requests = data.metrics[`http_reqs{scenario:${scenario}}`];
+        if (duration && requests) {
+            lines.push(`${scenario}: ${requests.values.rate.toFixed(1)} req/s, `
+                + `p50 ${duration.values.med.toFixed(1)} ms, p99 ${duration.values['p(99)'].toFixed(1)} ms`);
+        }
+    }
+    return lines.join('\n') + '\n';
+}
@@ -0,0 +1,60 @@
+package com.optic.console.application;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generation throughput under contention:
+ * <ul>
+ *     <li>{@code sharedSecureRandom} - the original code, one SecureRandom shared by all threads</li>
+ *     <li>{@code striped} - TokenGenerator with its striped DRBG instances</li>
+ *     <li>{@code stripedBatch} - TokenGenerator's bulk API, per token</li>
+ * </ul>
+ * Runs with 32 threads; compare against a single thread with
+ * {@code -Djmh.args="TokenGeneratorBenchmark -t 1"} (or -t 8, -t 64) to see the scaling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class TokenGeneratorBenchmark {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final int BATCH_SIZE = 100;
+
+    private SecureRandom sharedRandom;
+    private Base64.Encoder encoder;
+    private TokenGenerator tokenGenerator;
+
+    @Setup
+    public void setUp() {
+        sharedRandom = new SecureRandom();
+        encoder = Base64.getUrlEncoder().withoutPadding();
+        tokenGenerator = new TokenGenerator();
+    }
+
+    @Benchmark
+    public String sharedSecureRandom() {
+        byte[] buffer = new byte[TOKEN_BYTES];
+        sharedRandom.nextBytes(buffer);
+        return encoder.encodeToString(buffer);
+    }
+
+    @Benchmark
+    public String striped() {
+        return tokenGenerator.generate(TOKEN_BYTES);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<String> stripedBatch() {
+        return tokenGenerator.generateBatch(TOKEN_BYTES, BATCH_SIZE);
+    }
+}
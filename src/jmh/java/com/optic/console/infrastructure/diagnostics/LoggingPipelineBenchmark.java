@@ -0,0 +1,162 @@
+package com.optic.console.infrastructure.diagnostics;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.MDC;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logging cost per login request, i.e. the calls AuthController and AuthService make
+ * for one login, written unbuffered to /dev/null (one write per event, like the console),
+ * optionally slowed down by {@code writeNanos} per write:
+ * <ul>
+ *     <li>{@code sync-pattern} - the original setup: synchronous appender, thread name and
+ *     abbreviated logger in every line, application loggers at DEBUG</li>
+ *     <li>{@code async-pattern} - the current local setup: async appender, shorter pattern, INFO</li>
+ *     <li>{@code async-json} - the current production setup: async appender, logstash JSON, INFO</li>
+ * </ul>
+ * Runs with 8 threads so the async queue sees backpressure; the async variants then
+ * shed INFO events instead of blocking callers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class LoggingPipelineBenchmark {
+
+    private static final String ORIGINAL_PATTERN =
+            "%d{HH:mm:ss.SSS} %5p --- [%15.15t] %-40.40logger{39} : %m%n";
+    private static final String CURRENT_PATTERN =
+            "%d{HH:mm:ss.SSS} %5p %-30.30logger{0} [%X{requestId:-}] %m%n";
+
+    @Param({"sync-pattern", "async-pattern", "async-json"})
+    public String pipeline;
+
+    /**
+     * Extra time each write to the sink takes, standing in for a slow terminal or a
+     * container log pipe; 0 writes straight to /dev/null.
+     */
+    @Param({"0", "20000"})
+    public long writeNanos;
+
+    private LoggerContext context;
+    private Logger controllerLog;
+    private Logger serviceLog;
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+        context.setMDCAdapter(MDC.getMDCAdapter());
+        context.putObject(Environment.class.getName(), new StandardEnvironment());
+
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setContext(context);
+        sink.setEncoder(encoder(pipeline.equals("async-json")));
+        sink.setOutputStream(writeNanos > 0 ? new SlowStream(devNull(), writeNanos) : devNull());
+        sink.start();
+
+        Appender<ILoggingEvent> appender = sink;
+        if (pipeline.startsWith("async")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setIncludeCallerData(false);
+            async.addAppender(sink);
+            async.start();
+            appender = async;
+        }
+
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.addAppender(appender);
+        root.setLevel(Level.INFO);
+        context.getLogger("com.optic.console").setLevel(pipeline.equals("sync-pattern") ? Level.DEBUG : Level.INFO);
+
+        controllerLog = context.getLogger("com.optic.console.api.auth.AuthController");
+        serviceLog = context.getLogger("com.optic.console.application.service.AuthService");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void loginRequest() {
+        MDC.put(RequestCorrelationFilter.MDC_KEY, "0b7c3f1e-5a2d-4c8e-9f61-2d4a8b7e3c10");
+        try {
+            if (pipeline.equals("sync-pattern")) {
+                controllerLog.info("Login attempt for email: {}", "alice@example.com");
+            } else {
+                controllerLog.debug("Login attempt for email: {}", "alice@example.com");
+            }
+            serviceLog.info("User logged in successfully: {}", "alice@example.com");
+        } finally {
+            MDC.remove(RequestCorrelationFilter.MDC_KEY);
+        }
+    }
+
+    private Encoder<ILoggingEvent> encoder(boolean json) {
+        if (json) {
+            StructuredLogEncoder encoder = new StructuredLogEncoder();
+            encoder.setContext(context);
+            encoder.setFormat("logstash");
+            encoder.setCharset(StandardCharsets.UTF_8);
+            encoder.start();
+            return encoder;
+        }
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(pipeline.equals("sync-pattern") ? ORIGINAL_PATTERN : CURRENT_PATTERN);
+        encoder.setCharset(StandardCharsets.UTF_8);
+        encoder.start();
+        return encoder;
+    }
+
+    private static final class SlowStream extends FilterOutputStream {
+        private final long writeNanos;
+
+        SlowStream(OutputStream out, long writeNanos) {
+            super(out);
+            this.writeNanos = writeNanos;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            long until = System.nanoTime() + writeNanos;
+            while (System.nanoTime() < until) {
+                Thread.onSpinWait();
+            }
+            out.write(b, off, len);
+        }
+    }
+
+    private static OutputStream devNull() {
+        try {
+            return new FileOutputStream("/dev/null");
+        } catch (FileNotFoundException e) {
+            return OutputStream.nullOutputStream();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.optic.console.infrastructure.email;
+
+import com.optic.console.config.EmailRenderingProperties;
+import org.openjdk.jmh.annotations.*;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Render throughput per email template:
+ * <ul>
+ *     <li>{@code twoPass} - the original pipeline: fragment rendered to a String, then
+ *     the layout rendered around it with {@code th:utext}</li>
+ *     <li>{@code onePass} - EmailRenderer with the layout inserting the fragment</li>
+ *     <li>{@code staticParts} - EmailRenderer splicing values into cached static parts</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailRenderingBenchmark {
+
+    @Param({EmailTemplates.EMAIL_VERIFICATION, EmailTemplates.PASSWORD_RESET})
+    public String template;
+
+    private SpringTemplateEngine fragmentEngine;
+    private SpringTemplateEngine legacyLayoutEngine;
+    private String legacyLayout;
+    private EmailRenderer onePassRenderer;
+    private EmailRenderer staticPartsRenderer;
+    private OutgoingEmail email;
+
+    @Setup
+    public void setUp() throws IOException {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+        fragmentEngine = new SpringTemplateEngine();
+        fragmentEngine.setTemplateResolver(resolver);
+
+        try (InputStream base = getClass().getClassLoader().getResourceAsStream("templates/email/base.html")) {
+            legacyLayout = new String(base.readAllBytes(), StandardCharsets.UTF_8)
+                    .replace("th:insert=\"~{__${content}__}\"", "th:utext=\"${content}\"");
+        }
+        StringTemplateResolver stringResolver = new StringTemplateResolver();
+        stringResolver.setTemplateMode(TemplateMode.HTML);
+        stringResolver.setCacheable(true);
+        legacyLayoutEngine = new SpringTemplateEngine();
+        legacyLayoutEngine.setTemplateResolver(stringResolver);
+
+        EmailRenderingProperties onePass = new EmailRenderingProperties();
+        onePass.setStaticPartsCache(false);
+        onePassRenderer = new EmailRenderer(fragmentEngine, onePass);
+        staticPartsRenderer = new EmailRenderer(fragmentEngine, new EmailRenderingProperties());
+
+        email = new OutgoingEmail("bench@example.com", "Subject", template, Map.of(
+                "name", "Benchmark User",
+                "resetLink", "https://console.example.com/auth/verification/reset-password?token=3q2-7wEAAAAx",
+                "verificationLink", "https://console.example.com/auth/verification/email?token=3q2-7wEAAAAx"));
+        staticPartsRenderer.render(email);
+    }
+
+    @Benchmark
+    public String twoPass() {
+        Context fragmentContext = new Context();
+        email.variables().forEach(fragmentContext::setVariable);
+        String fragment = fragmentEngine.process(template, fragmentContext);
+
+        Context layoutContext = new Context();
+        layoutContext.setVariable("content", fragment);
+        return legacyLayoutEngine.process(legacyLayout, layoutContext);
+    }
+
+    @Benchmark
+    public String onePass() {
+        return onePassRenderer.render(email);
+    }
+
+    @Benchmark
+    public String staticParts() {
+        return staticPartsRenderer.render(email);
+    }
+}
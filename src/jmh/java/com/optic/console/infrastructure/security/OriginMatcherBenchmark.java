@@ -0,0 +1,57 @@
+package com.optic.console.infrastructure.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One {@code Origin} check against a project's allowed origins, compiled versus a scan
+ * of the list as stored (exact compare plus suffix test for wildcards). The origin is
+ * allowed by the last entry, the worst case for the scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class OriginMatcherBenchmark {
+
+    @Param({"1", "20", "500"})
+    public int origins;
+
+    private final String origin = "https://app.customer.example.com";
+    private List<String> allowed;
+    private OriginMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        allowed = new ArrayList<>();
+        for (int i = 1; i < origins; i++) {
+            allowed.add(i % 2 == 0 ? "https://site-" + i + ".example.org" : "https://*.tenant-" + i + ".example.net");
+        }
+        allowed.add("https://*.customer.example.com");
+        matcher = OriginMatcher.compile(allowed);
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return matcher.matches(origin);
+    }
+
+    @Benchmark
+    public boolean listScan() {
+        for (String entry : allowed) {
+            int wildcard = entry.indexOf("://*.");
+            if (wildcard < 0 ? entry.equalsIgnoreCase(origin)
+                    : origin.regionMatches(true, 0, entry, 0, wildcard + 3)
+                    && origin.regionMatches(true, origin.length() - (entry.length() - wildcard - 4),
+                    entry, wildcard + 4, entry.length() - wildcard - 4)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
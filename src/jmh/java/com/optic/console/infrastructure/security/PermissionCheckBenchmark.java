@@ -0,0 +1,95 @@
+package com.optic.console.infrastructure.security;
+
+import com.optic.console.domain.auth.PermissionKey;
+import com.optic.console.domain.workspace.WorkspaceMemberRepository.GrantRow;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10k workspace permission checks against one user's snapshot, as a request that
+ * filters a large listing would do: role mask bit tests versus the per-workspace
+ * permission-name sets the join-based model produced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class PermissionCheckBenchmark {
+
+    private static final int CHECKS = 10_000;
+
+    @Param({"5", "50"})
+    public int workspaces;
+
+    private AuthorizationSnapshot snapshot;
+    private Map<Long, Set<String>> namesByWorkspace;
+    private long[] workspaceIds;
+    private PermissionKey[] permissions;
+
+    record Row(String getScope, Long getTargetId, Long getWorkspaceId, String getRoleSlug, Long getPermissionMask)
+            implements GrantRow {
+    }
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        PermissionKey[] keys = PermissionKey.values();
+        List<Row> rows = new ArrayList<>();
+        namesByWorkspace = new HashMap<>();
+        for (long id = 1; id <= workspaces; id++) {
+            long mask = random.nextLong() & ((1L << keys.length) - 1);
+            rows.add(new Row(GrantRow.SCOPE_WORKSPACE, id, id, "role-" + id, mask));
+            Set<String> names = new HashSet<>();
+            for (PermissionKey key : keys) {
+                if (key.isIn(mask)) {
+                    names.add(key.getName());
+                }
+            }
+            namesByWorkspace.put(id, names);
+        }
+        snapshot = AuthorizationSnapshot.from(rows);
+
+        workspaceIds = new long[CHECKS];
+        permissions = new PermissionKey[CHECKS];
+        for (int i = 0; i < CHECKS; i++) {
+            // One in ten checks hits a workspace the user is not in.
+            workspaceIds[i] = 1 + random.nextInt(workspaces + Math.max(1, workspaces / 10));
+            permissions[i] = keys[random.nextInt(keys.length)];
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHECKS)
+    public int mask() {
+        int allowed = 0;
+        for (int i = 0; i < CHECKS; i++) {
+            if (snapshot.hasWorkspacePermission(workspaceIds[i], permissions[i])) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHECKS)
+    public int nameSet() {
+        int allowed = 0;
+        for (int i = 0; i < CHECKS; i++) {
+            Set<String> names = namesByWorkspace.get(workspaceIds[i]);
+            if (names != null && names.contains(permissions[i].getName())) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+}
@@ -0,0 +1,90 @@
+package com.optic.console.infrastructure.security.service;
+
+import com.optic.console.config.JwtProperties;
+import com.optic.console.domain.user.User;
+import com.optic.console.domain.user.UserStatus;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the token validation paths behind {@code /api/v1/auth/me}:
+ * <ul>
+ *     <li>{@code parserPerCall} - the original code, building a JwtParser for every call</li>
+ *     <li>{@code sharedParser} - one JwtParser, full HMAC check and JSON decode per call</li>
+ *     <li>{@code cachedClaims} - JwtService with the verified-claims cache (hot token)</li>
+ * </ul>
+ * and token issuing at login ({@code generateToken}, user claims embedded).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-at-least-32-bytes-long";
+
+    private SecretKey key;
+    private JwtService uncachedService;
+    private JwtService cachedService;
+    private String token;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        uncachedService = new JwtService(properties(false), new SimpleMeterRegistry());
+        cachedService = new JwtService(properties(true), new SimpleMeterRegistry());
+        token = cachedService.generateToken("benchmark@example.com", false);
+        cachedService.extractSubject(token);
+        user = User.builder()
+                .id(42L)
+                .email("benchmark@example.com")
+                .firstName("Bench")
+                .lastName("Mark")
+                .status(UserStatus.ACTIVE)
+                .emailVerified(true)
+                .build();
+    }
+
+    private static JwtProperties properties(boolean cacheEnabled) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpirationMillis("86400000");
+        properties.getClaimsCache().setEnabled(cacheEnabled);
+        return properties;
+    }
+
+    @Benchmark
+    public String parserPerCall() {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public String sharedParser() {
+        return uncachedService.extractSubject(token);
+    }
+
+    @Benchmark
+    public String cachedClaims() {
+        return cachedService.extractSubject(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachedService.generateToken(user, false);
+    }
+}
@@ -2,13 +2,16 @@ package com.optic.console.api.auth;
 
 import com.optic.console.application.service.AuthService;
 import com.optic.console.domain.auth.dto.EmailVerificationRequest;
+import com.optic.console.domain.auth.dto.RefreshTokenRequest;
 import com.optic.console.domain.user.dto.*;
+import com.optic.console.infrastructure.security.AuthenticatedUser;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
@@ -37,7 +40,7 @@ public class AuthController {
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<AuthResponse>> login(
             @Valid @RequestBody LoginRequest request) {
-        log.info("Login attempt for email: {}", request.getEmail());
+        log.debug("Login attempt for email: {}", request.getEmail());
         AuthResponse authResponse = authService.login(request);
         
         return ResponseEntity.ok(
@@ -48,6 +51,40 @@ public class AuthController {
         );
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<AuthResponse>> refresh(
+            @Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse authResponse = authService.refresh(request);
+
+        return ResponseEntity.ok(
+                ApiResponse.<AuthResponse>builder()
+                        .success(true)
+                        .data(authResponse)
+                        .build()
+        );
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<?>> logout(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+            @RequestBody(required = false) RefreshTokenRequest request
+    ) {
+        if (principal == null || authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        authService.logout(principal, authorizationHeader.substring(7),
+                request != null ? request.getRefreshToken() : null);
+
+        return ResponseEntity.ok(
+                ApiResponse.builder()
+                        .success(true)
+                        .message("Logged out successfully")
+                        .build()
+        );
+    }
+
     @PostMapping("/forgot-password")
     public ResponseEntity<ApiResponse<?>> forgotPassword(
             @Valid @RequestBody ForgotPasswordRequest request) {
@@ -91,16 +128,17 @@ public class AuthController {
 
     @GetMapping("/me")
     public ResponseEntity<AuthResponse> getCurrentUser(
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @RequestHeader(value = "Authorization", required = false) String authorizationHeader
     ) {
-        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+        if (principal == null || authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
         String rawToken = authorizationHeader.substring(7);
 
         try {
-            AuthResponse authResponse = authService.getCurrentUser(rawToken);
+            AuthResponse authResponse = authService.getCurrentUser(principal, rawToken);
             return ResponseEntity.ok(authResponse);
         } catch (Exception ex) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
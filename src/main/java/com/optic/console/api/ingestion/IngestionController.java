@@ -0,0 +1,65 @@
+package com.optic.console.api.ingestion;
+
+import com.optic.console.application.service.EventIngestionService;
+import com.optic.console.domain.ingestion.dto.CaptureResponse;
+import com.optic.console.domain.ingestion.exception.InvalidEventException;
+import com.optic.console.domain.user.dto.ApiResponse;
+import com.optic.console.infrastructure.security.service.ProjectApiKeyResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * SDK event capture, authenticated by the project API key in {@code X-Api-Key}. Bodies
+ * are read as a stream (optionally gzip-compressed) rather than bound to a DTO.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class IngestionController {
+
+    private final EventIngestionService eventIngestionService;
+
+    @PostMapping("/capture")
+    public ResponseEntity<ApiResponse<CaptureResponse>> capture(
+            @RequestHeader(value = ProjectApiKeyResolver.HEADER, required = false) String apiKey,
+            @RequestHeader(value = HttpHeaders.ORIGIN, required = false) String origin,
+            HttpServletRequest request) throws IOException {
+        int accepted = eventIngestionService.capture(apiKey, origin, body(request), false);
+        return ResponseEntity.ok(ApiResponse.success(new CaptureResponse(accepted)));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<CaptureResponse>> batch(
+            @RequestHeader(value = ProjectApiKeyResolver.HEADER, required = false) String apiKey,
+            @RequestHeader(value = HttpHeaders.ORIGIN, required = false) String origin,
+            HttpServletRequest request) throws IOException {
+        int accepted = eventIngestionService.capture(apiKey, origin, body(request), true);
+        return ResponseEntity.ok(ApiResponse.success(new CaptureResponse(accepted)));
+    }
+
+    private static InputStream body(HttpServletRequest request) throws IOException {
+        String encoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        if (encoding == null || encoding.isBlank() || "identity".equalsIgnoreCase(encoding)) {
+            return request.getInputStream();
+        }
+        if (!"gzip".equalsIgnoreCase(encoding)) {
+            throw new InvalidEventException("Unsupported Content-Encoding: " + encoding);
+        }
+        try {
+            return new GZIPInputStream(request.getInputStream());
+        } catch (ZipException e) {
+            throw new InvalidEventException("Body is not valid gzip");
+        }
+    }
+}
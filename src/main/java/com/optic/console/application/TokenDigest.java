@@ -0,0 +1,25 @@
+package com.optic.console.application;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SHA-256 digests of opaque tokens, so only the hash of a token handed to a user is stored.
+ */
+public final class TokenDigest {
+
+    public static final int LENGTH = 32;
+
+    private TokenDigest() {
+    }
+
+    public static byte[] sha256(String rawToken) {
+        try {
+            return MessageDigest.getInstance("SHA-256")
+                    .digest(rawToken.trim().getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -2,33 +2,128 @@ package com.optic.console.application;
 
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 
+/**
+ * Generates URL-safe random tokens.
+ * <p>
+ * Random bytes come from a set of independent DRBG instances (at least one per core)
+ * picked by thread id, so concurrent callers rarely meet on the same generator's lock.
+ * Platform threads reuse per-thread scratch buffers, leaving the returned String as
+ * the only allocation for typical token sizes.
+ */
 @Component
 public class TokenGenerator {
-    private final SecureRandom random;
+    private static final int MAX_SCRATCH_BYTES = 256;
+    private static final int BATCH_BLOCK_BYTES = 64 * 1024;
+
+    private final SecureRandom[] stripes;
+    private final int mask;
     private final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
 
     public TokenGenerator() {
-        this(new SecureRandom());
+        int count = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+        this.stripes = new SecureRandom[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = createSecureRandom();
+        }
+        this.mask = count - 1;
     }
 
     protected TokenGenerator(SecureRandom secureRandom) {
-        this.random = secureRandom;
+        this.stripes = new SecureRandom[]{secureRandom};
+        this.mask = 0;
     }
 
     protected SecureRandom createSecureRandom() {
-        return new SecureRandom();
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
     }
 
     public String generate(int bytes) {
+        requirePositive(bytes);
+
+        if (bytes > MAX_SCRATCH_BYTES || Thread.currentThread().isVirtual()) {
+            // Virtual threads are short-lived; per-thread buffers would not be reused.
+            byte[] buffer = new byte[bytes];
+            random().nextBytes(buffer);
+            return encoder.encodeToString(buffer);
+        }
+
+        Scratch buffers = scratch.get();
+        byte[] buffer = buffers.random(bytes);
+        random().nextBytes(buffer);
+        return buffers.encode(encoder, buffer);
+    }
+
+    /**
+     * Generates {@code count} tokens of {@code bytes} random bytes each, drawing the
+     * random bytes in large blocks. Meant for pre-generating invite codes or API keys.
+     */
+    public List<String> generateBatch(int bytes, int count) {
+        requirePositive(bytes);
+        if (count < 0) {
+            throw new IllegalArgumentException("Number of tokens must not be negative");
+        }
+
+        List<String> tokens = new ArrayList<>(count);
+        int tokensPerBlock = Math.max(1, Math.min(count, BATCH_BLOCK_BYTES / bytes));
+        byte[] block = new byte[Math.multiplyExact(bytes, Math.max(1, tokensPerBlock))];
+        byte[] token = new byte[bytes];
+        Scratch buffers = new Scratch();
+
+        while (tokens.size() < count) {
+            int inBlock = Math.min(tokensPerBlock, count - tokens.size());
+            random().nextBytes(block);
+            for (int i = 0; i < inBlock; i++) {
+                System.arraycopy(block, i * bytes, token, 0, bytes);
+                tokens.add(buffers.encode(encoder, token));
+            }
+        }
+        return tokens;
+    }
+
+    private SecureRandom random() {
+        if (mask == 0) {
+            return stripes[0];
+        }
+        long spread = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (spread >>> 32) & mask];
+    }
+
+    private static void requirePositive(int bytes) {
         if (bytes <= 0) {
             throw new IllegalArgumentException("Number of bytes must be positive");
         }
-        
-        byte[] buffer = new byte[bytes];
-        random.nextBytes(buffer);
-        return encoder.encodeToString(buffer);
+    }
+
+    private static final class Scratch {
+        private byte[] random = new byte[0];
+        private byte[] encoded = new byte[0];
+
+        byte[] random(int bytes) {
+            if (random.length != bytes) {
+                random = new byte[bytes];
+            }
+            return random;
+        }
+
+        String encode(Base64.Encoder encoder, byte[] source) {
+            int length = (source.length * 4 + 2) / 3;
+            if (encoded.length < length) {
+                encoded = new byte[length];
+            }
+            int written = encoder.encode(source, encoded);
+            return new String(encoded, 0, written, StandardCharsets.ISO_8859_1);
+        }
     }
 }
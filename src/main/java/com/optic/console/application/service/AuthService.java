@@ -3,6 +3,8 @@ package com.optic.console.application.service;
 import com.optic.console.config.ApplicationProperties;
 import com.optic.console.domain.auth.TokenType;
 import com.optic.console.domain.auth.VerificationToken;
+import com.optic.console.domain.auth.dto.RefreshTokenRequest;
+import com.optic.console.domain.auth.exception.InvalidRefreshTokenException;
 import com.optic.console.domain.auth.exception.InvalidTokenException;
 import com.optic.console.domain.user.User;
 import com.optic.console.domain.user.UserStatus;
@@ -10,7 +12,13 @@ import com.optic.console.domain.user.UserRepository;
 import com.optic.console.domain.user.dto.*;
 import com.optic.console.domain.user.exception.UserAlreadyExistsException;
 import com.optic.console.infrastructure.email.EmailService;
+import com.optic.console.infrastructure.security.AuthenticatedUser;
+import com.optic.console.infrastructure.security.service.AuthenticatedUserResolver;
 import com.optic.console.infrastructure.security.service.JwtService;
+import com.optic.console.infrastructure.security.service.TokenRevocationService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -18,15 +26,20 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.Duration;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_FAILURE = "failure";
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
@@ -34,29 +47,48 @@ public class AuthService {
     private final VerificationTokenService verificationTokenService;
     private final ApplicationProperties applicationProperties;
     private final UserService userService;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final PasswordResetRequestProcessor passwordResetRequestProcessor;
+    private final TransactionOperations transactionOperations;
+    private final MeterRegistry meterRegistry;
 
-    @Transactional
+    /**
+     * The password is hashed before the transaction starts, so no database connection
+     * is held while BCrypt runs.
+     */
     public void register(RegisterRequest request) {
+        timed("register", () -> {
+            doRegister(request);
+            return null;
+        });
+    }
+
+    private void doRegister(RegisterRequest request) {
         if (userRepository.existsByEmailIgnoreCase(request.getEmail())) {
             throw new UserAlreadyExistsException("This email cannot be used.");
         }
 
-        try {
-            var user = User.builder()
-                    .email(request.getEmail().toLowerCase())
-                    .password(passwordEncoder.encode(request.getPassword()))
-                    .firstName("")
-                    .lastName("")
-                    .status(UserStatus.ACTIVE)
-                    .build();
+        String passwordHash = passwordEncoder.encode(request.getPassword());
 
-            User newUser = userRepository.save(user);
-            VerificationToken verificationToken = verificationTokenService.createToken(newUser, TokenType.EMAIL_VERIFICATION,
-                    Duration.ofHours(24));
+        try {
+            transactionOperations.executeWithoutResult(status -> {
+                var user = User.builder()
+                        .email(request.getEmail().toLowerCase())
+                        .password(passwordHash)
+                        .firstName("")
+                        .lastName("")
+                        .status(UserStatus.ACTIVE)
+                        .build();
 
-            emailService.sendEmailVerificationEmail(newUser.getEmail(),
-                    applicationProperties.getFrontendUrl() + "/auth/verification/email?token=" + verificationToken.getToken());
+                User newUser = userRepository.save(user);
+                VerificationToken verificationToken = verificationTokenService.createToken(newUser, TokenType.EMAIL_VERIFICATION,
+                        Duration.ofHours(24));
 
+                emailService.sendEmailVerificationEmail(newUser.getEmail(),
+                        applicationProperties.getFrontendUrl() + "/auth/verification/email?token=" + verificationToken.getToken());
+            });
         } catch (DataIntegrityViolationException e) {
             log.error("Database error during registration for email: {}", request.getEmail(), e);
             throw new RuntimeException("Registration failed due to a database error", e);
@@ -64,6 +96,10 @@ public class AuthService {
     }
 
     public AuthResponse login(LoginRequest request) {
+        return timed("login", () -> doLogin(request));
+    }
+
+    private AuthResponse doLogin(LoginRequest request) {
         var user = userRepository.findByEmailIgnoreCase(request.getEmail())
                 .orElseThrow(() -> {
                     log.warn("Failed login attempt - user not found: {}", request.getEmail());
@@ -75,62 +111,141 @@ public class AuthService {
             throw new BadCredentialsException("Invalid credentials");
         }
 
-        var token = jwtService.generateToken(user.getEmail(), request.getRememberMe());
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            upgradePasswordHash(user, request.getPassword());
+        }
+
+        var token = jwtService.generateToken(user, request.getRememberMe());
+        var refreshToken = refreshTokenService.issue(user);
         log.info("User logged in successfully: {}", request.getEmail());
         
         return AuthResponse.builder()
                 .token(token)
+                .refreshToken(refreshToken)
                 .email(user.getEmail())
                 .firstName(user.getFirstName() != null ? user.getFirstName() : "")
                 .lastName(user.getLastName() != null ? user.getLastName() : "")
                 .build();
     }
 
-    public void handleForgotPasswordRequest(ForgotPasswordRequest request) {
-        var user = userRepository.findByEmailIgnoreCase(request.getEmail()).orElse(null);
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token.
+     */
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        return timed("refresh", () -> doRefresh(request));
+    }
+
+    private AuthResponse doRefresh(RefreshTokenRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+        User user = rotation.user();
+
+        if (user.getStatus() == UserStatus.SUSPENDED || user.getStatus() == UserStatus.INACTIVE) {
+            refreshTokenService.revokeAll(user.getId());
+            throw new InvalidRefreshTokenException();
+        }
+
+        return AuthResponse.builder()
+                .token(jwtService.generateToken(user, false))
+                .refreshToken(rotation.refreshToken())
+                .email(user.getEmail())
+                .firstName(user.getFirstName() != null ? user.getFirstName() : "")
+                .lastName(user.getLastName() != null ? user.getLastName() : "")
+                .build();
+    }
+
+    /**
+     * Revokes the presented access token and, when given, the session's refresh token.
+     */
+    public void logout(AuthenticatedUser principal, String rawToken, String refreshToken) {
+        Claims claims = jwtService.parseClaims(rawToken);
+        tokenRevocationService.revoke(claims.getId(), principal != null ? principal.id() : null, claims.getExpiration());
 
-        if (user != null) {
-            VerificationToken verificationToken = verificationTokenService.createToken(user, TokenType.PASSWORD_RESET,
-                    Duration.ofHours(1));
-            String resetLink = applicationProperties.getFrontendUrl() + "/auth/verification/reset-password?token=" + verificationToken.getToken();
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken);
+        }
+    }
+
+    /**
+     * Records the call in {@code auth.operation.duration}, tagged with the operation and
+     * whether it completed or threw.
+     */
+    private <T> T timed(String operation, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = OUTCOME_FAILURE;
+        try {
+            T result = action.get();
+            outcome = OUTCOME_SUCCESS;
+            return result;
+        } finally {
+            sample.stop(Timer.builder("auth.operation.duration")
+                    .description("Duration of login, registration and token refresh calls")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
 
-            emailService.sendPasswordResetEmail(user.getEmail(), user.getFullName(), resetLink);
+    private void upgradePasswordHash(User user, String rawPassword) {
+        try {
+            user.setPassword(passwordEncoder.encode(rawPassword));
+            userRepository.save(user);
+            log.info("Upgraded password hash for user: {}", user.getEmail());
+        } catch (RuntimeException e) {
+            // The old hash is still valid; try again on the next login rather than failing this one.
+            log.warn("Could not upgrade password hash for user: {}", user.getEmail(), e);
         }
     }
 
+    /**
+     * Queues the request and returns without touching the database, so the response
+     * does not reveal whether the account exists.
+     */
+    public void handleForgotPasswordRequest(ForgotPasswordRequest request) {
+        passwordResetRequestProcessor.submit(request.getEmail());
+    }
+
     public void handlePasswordResetTokenVerification(String token) {
         if (!verificationTokenService.isValidToken(token, TokenType.PASSWORD_RESET)) {
             throw new InvalidTokenException();
         }
     }
 
-    @Transactional
+    /**
+     * Like {@link #register}, the new password is hashed before the transaction starts.
+     */
     public void handlePasswordReset(ResetPasswordRequest request) {
-        VerificationToken token = verificationTokenService.getValidTokenOrThrowException(
-                request.getToken(), TokenType.PASSWORD_RESET);
+        String passwordHash = passwordEncoder.encode(request.getNewPassword());
 
-        User user = token.getUser();
+        transactionOperations.executeWithoutResult(status -> {
+            VerificationToken token = verificationTokenService.getValidTokenOrThrowException(
+                    request.getToken(), TokenType.PASSWORD_RESET);
 
-        if (user == null) {
-            throw new InvalidTokenException();
-        }
+            User user = token.getUser();
 
-        user.setPassword(passwordEncoder.encode(request.getNewPassword()));
-        userRepository.save(user);
-        verificationTokenService.markAsUsed(token);
-    }
+            if (user == null) {
+                throw new InvalidTokenException();
+            }
 
-    public AuthResponse getCurrentUser(String rawToken) {
-        String email = jwtService.extractSubject(rawToken);
+            user.setPassword(passwordHash);
+            // Invalidates every token issued with the old password.
+            user.incrementTokenVersion();
+            userRepository.save(user);
+            verificationTokenService.markAsUsed(token);
+            refreshTokenService.revokeAll(user.getId());
+            authenticatedUserResolver.evict(user.getId());
+        });
+    }
 
-        User user = userRepository.findByEmailIgnoreCase(email)
-                .orElseThrow(() -> new BadCredentialsException("User not found for token subject"));
+    public AuthResponse getCurrentUser(AuthenticatedUser principal, String rawToken) {
+        if (principal == null) {
+            throw new BadCredentialsException("Not authenticated");
+        }
 
         return AuthResponse.builder()
                 .token(rawToken)
-                .email(user.getEmail())
-                .firstName(user.getFirstName() != null ? user.getFirstName() : "")
-                .lastName(user.getLastName() != null ? user.getLastName() : "")
+                .email(principal.email())
+                .firstName(principal.firstName())
+                .lastName(principal.lastName())
                 .build();
     }
 
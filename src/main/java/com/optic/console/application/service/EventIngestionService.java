@@ -0,0 +1,82 @@
+package com.optic.console.application.service;
+
+import com.optic.console.config.IngestionProperties;
+import com.optic.console.domain.ingestion.CapturedEvent;
+import com.optic.console.domain.project.exception.InvalidApiKeyException;
+import com.optic.console.domain.project.exception.OriginNotAllowedException;
+import com.optic.console.infrastructure.exception.ServiceOverloadedException;
+import com.optic.console.infrastructure.ingestion.EventIngestionPipeline;
+import com.optic.console.infrastructure.ingestion.EventStreamParser;
+import com.optic.console.infrastructure.ingestion.IngestionReceipt;
+import com.optic.console.infrastructure.security.AuthenticatedProject;
+import com.optic.console.infrastructure.security.service.ProjectApiKeyResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Accepts SDK events for the project owning the API key. A call returns once the
+ * events are committed, so a success response means they are stored.
+ */
+@Slf4j
+@Service
+public class EventIngestionService {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final ProjectApiKeyResolver projectApiKeyResolver;
+    private final EventStreamParser eventStreamParser;
+    private final EventIngestionPipeline eventIngestionPipeline;
+    private final long ackTimeoutMillis;
+
+    public EventIngestionService(ProjectApiKeyResolver projectApiKeyResolver,
+                                 EventStreamParser eventStreamParser,
+                                 EventIngestionPipeline eventIngestionPipeline,
+                                 IngestionProperties properties) {
+        this.projectApiKeyResolver = projectApiKeyResolver;
+        this.eventStreamParser = eventStreamParser;
+        this.eventIngestionPipeline = eventIngestionPipeline;
+        this.ackTimeoutMillis = properties.getAckTimeout().toMillis();
+    }
+
+    /**
+     * Returns the number of events stored.
+     */
+    public int capture(String apiKey, String origin, InputStream body, boolean batch) {
+        AuthenticatedProject project = projectApiKeyResolver.resolve(apiKey)
+                .orElseThrow(() -> new InvalidApiKeyException("Invalid API key"));
+        if (!project.allowsOrigin(origin)) {
+            throw new OriginNotAllowedException("Origin is not allowed for this project");
+        }
+
+        Instant receivedAt = Instant.now();
+        List<CapturedEvent> events = batch
+                ? eventStreamParser.parseBatch(body, project.projectId(), receivedAt)
+                : List.of(eventStreamParser.parseOne(body, project.projectId(), receivedAt));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        awaitCommit(eventIngestionPipeline.enqueue(events));
+        return events.size();
+    }
+
+    private void awaitCommit(IngestionReceipt receipt) {
+        try {
+            receipt.completion().get(ackTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ServiceOverloadedException("Events were not stored in time, retry shortly", RETRY_AFTER_SECONDS);
+        } catch (ExecutionException e) {
+            throw new ServiceOverloadedException("Events could not be stored, retry shortly", RETRY_AFTER_SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("Events were not stored in time, retry shortly", RETRY_AFTER_SECONDS);
+        }
+    }
+}
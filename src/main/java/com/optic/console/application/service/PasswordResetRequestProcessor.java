@@ -0,0 +1,154 @@
+package com.optic.console.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.optic.console.config.ApplicationProperties;
+import com.optic.console.config.PasswordResetProperties;
+import com.optic.console.domain.auth.TokenType;
+import com.optic.console.domain.auth.VerificationToken;
+import com.optic.console.domain.user.UserRepository;
+import com.optic.console.infrastructure.email.EmailService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Handles forgot-password requests off the request thread, so the endpoint does the
+ * same (DB-free) work whether or not the account exists.
+ * <p>
+ * Requests for the same address within {@code password-reset.coalesce-window} are
+ * dropped in memory before they are queued. The background step also skips
+ * accounts that already have a reset token from within the window (e.g. issued by
+ * another instance), so repeated clicks produce one token and one email.
+ */
+@Slf4j
+@Service
+public class PasswordResetRequestProcessor implements DisposableBean {
+
+    private final UserRepository userRepository;
+    private final VerificationTokenService verificationTokenService;
+    private final EmailService emailService;
+    private final ApplicationProperties applicationProperties;
+    private final PasswordResetProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, Boolean> recentRequests;
+    private final ThreadPoolExecutor executor;
+    private final Counter coalesced;
+    private final Counter dropped;
+
+    public PasswordResetRequestProcessor(UserRepository userRepository,
+                                         VerificationTokenService verificationTokenService,
+                                         EmailService emailService,
+                                         ApplicationProperties applicationProperties,
+                                         PasswordResetProperties properties,
+                                         PlatformTransactionManager transactionManager,
+                                         MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.verificationTokenService = verificationTokenService;
+        this.emailService = emailService;
+        this.applicationProperties = applicationProperties;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.recentRequests = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedAccounts())
+                .expireAfterWrite(properties.getCoalesceWindow())
+                .build();
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                1, 1,
+                0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-reset-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> onRejected());
+
+        this.coalesced = Counter.builder("auth.password.reset.requests")
+                .description("Forgot-password requests by outcome")
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("auth.password.reset.requests")
+                .description("Forgot-password requests by outcome")
+                .tag("result", "dropped")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Accepts a request and returns immediately.
+     */
+    public void submit(String email) {
+        if (email == null || email.isBlank()) {
+            return;
+        }
+
+        String normalized = email.trim().toLowerCase(Locale.ROOT);
+        if (recentRequests.asMap().putIfAbsent(normalized, Boolean.TRUE) != null) {
+            coalesced.increment();
+            return;
+        }
+
+        try {
+            executor.execute(() -> process(normalized));
+        } catch (RejectedExecutionException e) {
+            // Nothing was queued, so don't hold back the next request for this address.
+            recentRequests.invalidate(normalized);
+        }
+    }
+
+    void process(String email) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> issueToken(email));
+        } catch (RuntimeException e) {
+            // Let the next request for this address try again.
+            recentRequests.invalidate(email);
+            log.error("Failed to process password reset request", e);
+        }
+    }
+
+    private void issueToken(String email) {
+        var user = userRepository.findByEmailIgnoreCase(email).orElse(null);
+        if (user == null) {
+            return;
+        }
+
+        if (verificationTokenService.findRecentToken(user, TokenType.PASSWORD_RESET, properties.getCoalesceWindow()).isPresent()) {
+            coalesced.increment();
+            return;
+        }
+
+        VerificationToken verificationToken = verificationTokenService.createToken(user, TokenType.PASSWORD_RESET,
+                properties.getTokenValidity());
+        String resetLink = applicationProperties.getFrontendUrl() + "/auth/verification/reset-password?token=" + verificationToken.getToken();
+
+        emailService.sendPasswordResetEmail(user.getEmail(), user.getFullName(), resetLink);
+    }
+
+    private void onRejected() {
+        dropped.increment();
+        log.warn("Password reset queue is full; dropping request");
+        throw new RejectedExecutionException("Password reset queue is full");
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.optic.console.application.service;
+
+import com.optic.console.application.TokenDigest;
+import com.optic.console.application.TokenGenerator;
+import com.optic.console.domain.project.Project;
+import com.optic.console.domain.project.ProjectRepository;
+import com.optic.console.domain.project.exception.ProjectNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Issues project API keys. Only the key's hash and a short prefix are stored; the raw
+ * key is returned once, to be shown to the user.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectApiKeyService {
+
+    static final String KEY_PREFIX = "opk_";
+    static final int KEY_BYTES = 32;
+    static final int DISPLAY_PREFIX_LENGTH = 12;
+
+    private final ProjectRepository projectRepository;
+    private final TokenGenerator tokenGenerator;
+
+    /**
+     * Sets a new API key for the project and returns it. The old key stops resolving on
+     * this instance when the transaction commits (see {@code ProjectApiKeyResolver}).
+     */
+    @Transactional
+    public String rotate(Long projectId) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ProjectNotFoundException("Project not found"));
+        String rawKey = assign(project);
+        projectRepository.save(project);
+        return rawKey;
+    }
+
+    /**
+     * Gives a project (new or existing) a fresh key without saving it.
+     */
+    public String assign(Project project) {
+        String rawKey = KEY_PREFIX + tokenGenerator.generate(KEY_BYTES);
+        project.setApiKeyHash(TokenDigest.sha256(rawKey));
+        project.setApiKeyPrefix(rawKey.substring(0, DISPLAY_PREFIX_LENGTH));
+        return rawKey;
+    }
+}
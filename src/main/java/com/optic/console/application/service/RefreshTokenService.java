@@ -0,0 +1,116 @@
+package com.optic.console.application.service;
+
+import com.optic.console.application.TokenDigest;
+import com.optic.console.application.TokenGenerator;
+import com.optic.console.config.JwtProperties;
+import com.optic.console.domain.auth.RefreshToken;
+import com.optic.console.domain.auth.RefreshTokenRepository;
+import com.optic.console.domain.auth.exception.InvalidRefreshTokenException;
+import com.optic.console.domain.user.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+/**
+ * Issues and rotates refresh tokens. Each refresh consumes the presented token and
+ * returns a new one; presenting an already rotated token is treated as theft and
+ * revokes every refresh token of that user.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenGenerator tokenGenerator;
+    private final JwtProperties jwtProperties;
+
+    @Transactional
+    public String issue(User user) {
+        return create(user).rawToken();
+    }
+
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(InvalidRefreshTokenException::new);
+
+        if (current.isRevoked()) {
+            throw reused(current);
+        }
+
+        if (current.isExpired()) {
+            throw new InvalidRefreshTokenException();
+        }
+
+        // Conditional write: of two requests replaying the same token, only one wins.
+        LocalDateTime now = LocalDateTime.now();
+        if (refreshTokenRepository.revokeIfActive(current.getId(), now) == 0) {
+            throw reused(current);
+        }
+
+        Issued next = create(current.getUser());
+        current.setRevokedAt(now);
+        current.setReplacedById(next.token().getId());
+        refreshTokenRepository.save(current);
+
+        return new Rotation(current.getUser(), next.rawToken());
+    }
+
+    private InvalidRefreshTokenException reused(RefreshToken token) {
+        int revoked = refreshTokenRepository.revokeAllByUserId(token.getUser().getId(), LocalDateTime.now());
+        log.warn("Rotated refresh token reused for user {}; revoked {} active refresh tokens",
+                token.getUser().getId(), revoked);
+        return new InvalidRefreshTokenException();
+    }
+
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .filter(token -> !token.isRevoked())
+                .ifPresent(token -> {
+                    token.revoke();
+                    refreshTokenRepository.save(token);
+                });
+    }
+
+    @Transactional
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.revokeAllByUserId(userId, LocalDateTime.now());
+    }
+
+    @Scheduled(cron = "0 30 0 * * ?") // Run daily after midnight
+    @Transactional
+    public void cleanupExpiredTokens() {
+        // Keep rotated tokens for a while after expiry so late reuse is still recognised.
+        refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now().minusDays(7));
+    }
+
+    private Issued create(User user) {
+        String rawToken = tokenGenerator.generate(TOKEN_BYTES);
+
+        RefreshToken token = new RefreshToken();
+        token.setUser(user);
+        token.setTokenHash(hash(rawToken));
+        token.setExpiresAt(LocalDateTime.now().plus(jwtProperties.getRefreshTokenTtl()));
+
+        return new Issued(refreshTokenRepository.save(token), rawToken);
+    }
+
+    static String hash(String rawToken) {
+        return HexFormat.of().formatHex(TokenDigest.sha256(rawToken));
+    }
+
+    public record Rotation(User user, String refreshToken) {
+    }
+
+    private record Issued(RefreshToken token, String rawToken) {
+    }
+}
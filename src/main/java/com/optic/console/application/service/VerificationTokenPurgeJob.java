@@ -0,0 +1,33 @@
+package com.optic.console.application.service;
+
+import com.optic.console.config.VerificationTokenPurgeProperties;
+import com.optic.console.infrastructure.scheduling.BatchPurge;
+import com.optic.console.infrastructure.scheduling.JobLockService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Purges expired verification tokens through {@link BatchPurge}: small batches in
+ * short transactions, on whichever instance holds the job lock.
+ */
+@Component
+public class VerificationTokenPurgeJob {
+
+    static final String JOB_NAME = "verification-token-purge";
+
+    private final BatchPurge purge;
+
+    public VerificationTokenPurgeJob(VerificationTokenService verificationTokenService,
+                                     JobLockService jobLockService,
+                                     VerificationTokenPurgeProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.purge = new BatchPurge(JOB_NAME, "auth.verification.tokens", properties,
+                verificationTokenService::purgeExpiredBatch, jobLockService, meterRegistry);
+    }
+
+    @Scheduled(cron = "${verification-token.purge.cron:0 0 0 * * ?}") // Daily at midnight by default
+    public void run() {
+        purge.run();
+    }
+}
@@ -1,5 +1,6 @@
 package com.optic.console.application.service;
 
+import com.optic.console.application.TokenDigest;
 import com.optic.console.application.TokenGenerator;
 import com.optic.console.domain.auth.TokenType;
 import com.optic.console.domain.auth.VerificationToken;
@@ -7,7 +8,6 @@ import com.optic.console.domain.auth.VerificationTokenRepository;
 import com.optic.console.domain.auth.exception.InvalidTokenException;
 import com.optic.console.domain.user.User;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,29 +29,44 @@ public class VerificationTokenService {
         VerificationToken token = new VerificationToken();
         token.setUser(user);
         token.setType(type);
-        token.setToken(tokenGenerator.generate(32));
+        String rawToken = tokenGenerator.generate(32);
+        token.setToken(rawToken);
+        token.setTokenHash(TokenDigest.sha256(rawToken));
         token.setExpiresAt(LocalDateTime.now().plus(validity));
 
         return verificationTokenRepository.save(token);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public boolean isValidToken(String tokenString, TokenType type) {
-        return verificationTokenRepository.findByTokenAndType(tokenString, type)
-                .map(token -> {
-                    return !token.isExpired() && !token.isUsed();
-                })
+        if (tokenString == null || type == null) {
+            return false;
+        }
+        return verificationTokenRepository.findValidityByTokenHashAndType(TokenDigest.sha256(tokenString), type)
+                .map(VerificationTokenRepository.TokenValidity::isValid)
                 .orElse(false);
     }
 
     public VerificationToken getValidTokenOrThrowException(String tokenString, TokenType type) {
-        return verificationTokenRepository.findByTokenAndType(tokenString, type)
+        return getToken(tokenString, type)
                 .filter(token -> !token.isExpired() && !token.isUsed())
                 .orElseThrow(InvalidTokenException::new);
     }
 
+    /**
+     * The user's unused, unexpired token of this type if it was created within the window.
+     */
+    public Optional<VerificationToken> findRecentToken(User user, TokenType type, Duration window) {
+        LocalDateTime createdAfter = LocalDateTime.now().minus(window);
+        return verificationTokenRepository.findByUserAndTypeAndUsedAtIsNull(user, type)
+                .filter(token -> !token.isExpired() && token.getCreatedAt().isAfter(createdAfter));
+    }
+
     public Optional<VerificationToken> getToken(String tokenString, TokenType type) {
-        return verificationTokenRepository.findByTokenAndType(tokenString, type);
+        if (tokenString == null || type == null) {
+            return Optional.empty();
+        }
+        return verificationTokenRepository.findByTokenHashAndType(TokenDigest.sha256(tokenString), type);
     }
 
     void markAsUsed(VerificationToken token) {
@@ -59,11 +74,12 @@ public class VerificationTokenService {
         verificationTokenRepository.save(token);
     }
 
-
-
-    @Scheduled(cron = "0 0 0 * * ?") // Run daily at midnight
+    /**
+     * Deletes one batch of tokens that expired before the cutoff in its own transaction.
+     * See {@link VerificationTokenPurgeJob}.
+     */
     @Transactional
-    public void cleanupExpiredTokens() {
-        verificationTokenRepository.deleteByExpiresAtBefore(LocalDateTime.now().minusDays(7));
+    public int purgeExpiredBatch(LocalDateTime cutoff, int batchSize) {
+        return verificationTokenRepository.deleteExpiredBatch(cutoff, batchSize);
     }
 }
\ No newline at end of file
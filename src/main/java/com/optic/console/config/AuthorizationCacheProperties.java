@@ -0,0 +1,25 @@
+package com.optic.console.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "authorization.snapshot")
+@Component
+@Getter
+@Setter
+public class AuthorizationCacheProperties {
+    /**
+     * Users whose authorization snapshot is kept in memory.
+     */
+    private int maxSize = 10_000;
+
+    /**
+     * Snapshots are rebuilt after this long even without a membership change event,
+     * bounding staleness from writes made outside this instance.
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+}
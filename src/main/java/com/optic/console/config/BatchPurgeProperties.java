@@ -0,0 +1,37 @@
+package com.optic.console.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * Settings shared by the jobs that delete old rows through
+ * {@link com.optic.console.infrastructure.scheduling.BatchPurge}.
+ */
+@Getter
+@Setter
+public class BatchPurgeProperties {
+    private boolean enabled = true;
+
+    /**
+     * Rows are kept this long before they are deleted.
+     */
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * Rows deleted per transaction.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Pause between batches so the purge does not compete with request traffic.
+     */
+    private Duration pause = Duration.ofMillis(100);
+
+    /**
+     * How long one run may hold the job lock. A run starts no batch that could end in
+     * the last tenth of it, and the rest is deleted by the next run.
+     */
+    private Duration lockLease = Duration.ofMinutes(30);
+}
@@ -5,6 +5,7 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.List;
 
 @ConfigurationProperties(prefix = "cors")
@@ -13,4 +14,15 @@ import java.util.List;
 @Setter
 public class CorsProperties {
     private List<String> allowedOrigins = List.of();
+
+    /**
+     * How long browsers may cache a console preflight response.
+     */
+    private Duration maxAge = Duration.ofHours(1);
+
+    /**
+     * How long browsers may cache an ingestion preflight response. The answer does not
+     * depend on the project, so it can be long; browsers cap it themselves (Chromium at 2h).
+     */
+    private Duration ingestionMaxAge = Duration.ofHours(24);
 }
@@ -0,0 +1,18 @@
+package com.optic.console.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "datasource.metrics")
+@Component
+@Getter
+@Setter
+public class DataSourceMetricsProperties {
+    /**
+     * Records how long each controller method waits for and holds a JDBC connection
+     * ({@code db.connection.acquire} and {@code db.connection.hold}, tagged by endpoint).
+     */
+    private boolean enabled = true;
+}
@@ -0,0 +1,61 @@
+package com.optic.console.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "email.outbox")
+@Component
+@Getter
+@Setter
+public class EmailOutboxProperties {
+    /**
+     * Run the dispatcher on this instance. Emails are still queued when disabled.
+     */
+    private boolean enabled = true;
+
+    private Duration pollInterval = Duration.ofSeconds(2);
+
+    /**
+     * Maximum number of dispatch tasks (and so SMTP connections) active at the same
+     * time on this instance.
+     */
+    private int concurrency = 4;
+
+    /**
+     * Emails a dispatch task sends over one SMTP connection.
+     */
+    private int batchSize = 20;
+
+    /**
+     * Delivery attempts before a message is marked FAILED.
+     */
+    private int maxAttempts = 8;
+
+    /**
+     * Delay before the first retry; doubled on each further attempt up to maxBackoff.
+     */
+    private Duration initialBackoff = Duration.ofSeconds(30);
+    private Duration maxBackoff = Duration.ofHours(1);
+
+    /**
+     * How long a claimed message is reserved for one dispatcher. Messages still
+     * SENDING after this (e.g. the instance died) are picked up again.
+     */
+    private Duration lease = Duration.ofMinutes(5);
+
+    private Purge purge = new Purge();
+
+    /**
+     * Purge of SENT and FAILED messages; {@code retention} counts from when the message
+     * was queued.
+     */
+    public static class Purge extends BatchPurgeProperties {
+        public Purge() {
+            setRetention(Duration.ofDays(14));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.optic.console.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "email.rendering")
+@Component
+@Getter
+@Setter
+public class EmailRenderingProperties {
+    /**
+     * Layout every email fragment is inserted into.
+     */
+    private String baseTemplate = "email/base";
+
+    /**
+     * Parse every known email template when the application starts instead of on
+     * the first send.
+     */
+    private boolean warmUp = true;
+
+    /**
+     * Render each template once with placeholder values and afterwards only splice
+     * the escaped per-recipient values into the cached output. Templates whose
+     * output cannot be reproduced this way are always fully rendered.
+     */
+    private boolean staticPartsCache = true;
+}
@@ -0,0 +1,59 @@
+package com.optic.console.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ingestion.events")
+@Component
+@Getter
+@Setter
+public class IngestionProperties {
+    /**
+     * Events held in memory between the endpoints and the database writers. When it is
+     * full, capture requests get a 429.
+     */
+    private int bufferCapacity = 100_000;
+
+    /**
+     * Most events written by one COPY.
+     */
+    private int batchSize = 2000;
+
+    /**
+     * Longest an event waits for its batch to fill before the batch is written anyway.
+     */
+    private Duration flushInterval = Duration.ofMillis(100);
+
+    /**
+     * Writer threads, each holding a pooled connection only while its COPY runs. More
+     * than one lets the next batch be written while the previous one is committing.
+     */
+    private int writers = 2;
+
+    /**
+     * How long a capture request waits for its events to be committed before answering
+     * 503 (the SDK retries; events may then arrive twice, with the same uuid).
+     */
+    private Duration ackTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Largest request body, after decompression.
+     */
+    private int maxRequestBytes = 1024 * 1024;
+
+    /**
+     * Most events accepted in one {@code /batch} request.
+     */
+    private int maxBatchEvents = 1000;
+
+    /**
+     * How far an event's own timestamp may be from the time it was received, either
+     * way. Events outside this window are rejected rather than stored with a time
+     * Postgres may not be able to represent.
+     */
+    private Duration maxTimestampSkew = Duration.ofDays(365);
+}
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "jwt")
 @Component
 @Getter
@@ -12,4 +14,56 @@ import org.springframework.stereotype.Component;
 public class JwtProperties {
     private String secret;
     private String expirationMillis;
+    private ClaimsCache claimsCache = new ClaimsCache();
+
+    /**
+     * How long the user state embedded in a token is trusted without checking the
+     * database. Older tokens are re-validated against the user row (at most once per
+     * user per window).
+     */
+    private Duration claimsMaxAge = Duration.ofMinutes(5);
+
+    /**
+     * Lifetime of a refresh token. Each use rotates it and restarts the clock.
+     */
+    private Duration refreshTokenTtl = Duration.ofDays(14);
+
+    private Revocation revocation = new Revocation();
+
+    @Getter
+    @Setter
+    public static class ClaimsCache {
+        /**
+         * Keep verified claims in memory so repeated validations of the same token
+         * skip the signature check and JSON decode.
+         */
+        private boolean enabled = true;
+        private long maxSize = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Revocation {
+        /**
+         * How often revocations written by other instances are pulled into the local
+         * filter. This bounds how long a revoked token stays usable elsewhere.
+         */
+        private Duration refreshInterval = Duration.ofSeconds(5);
+
+        /**
+         * How often the filter is rebuilt from unexpired revocations, dropping
+         * expired entries and resizing it to the current count.
+         */
+        private Duration rebuildInterval = Duration.ofHours(1);
+
+        /**
+         * How many ids below the highest one seen are read again on each refresh.
+         * Identity values are handed out before commit, so a revocation with a lower
+         * id can become visible after a higher one has already been read.
+         */
+        private int refreshIdOverlap = 256;
+
+        private int expectedInsertions = 100_000;
+        private double falsePositiveRate = 0.01;
+    }
 }
@@ -0,0 +1,71 @@
+package com.optic.console.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "password-hashing")
+@Component
+@Getter
+@Setter
+public class PasswordHashingProperties {
+    /**
+     * Number of threads allowed to hash concurrently. Defaults to half the cores so
+     * a login storm cannot take every CPU away from the rest of the API.
+     */
+    private int poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * Hashing requests allowed to wait for a free thread before new ones are rejected.
+     */
+    private int queueCapacity = 50;
+
+    /**
+     * Value of the Retry-After header sent when the queue is full.
+     */
+    private long retryAfterSeconds = 1;
+
+    /**
+     * Algorithm used for new hashes. Hashes in any other supported format still verify
+     * and are re-hashed with this one on the next successful login.
+     */
+    private PasswordHashAlgorithm algorithm = PasswordHashAlgorithm.BCRYPT;
+
+    /**
+     * Per-hash latency the BCrypt cost is calibrated against at startup.
+     */
+    private Duration targetLatency = Duration.ofMillis(50);
+
+    /**
+     * Fixed BCrypt cost. When set, startup calibration is skipped.
+     */
+    private Integer bcryptStrength;
+
+    /**
+     * Lowest cost calibration may pick, however slow the host is.
+     */
+    private int minBcryptStrength = 10;
+
+    /**
+     * Highest cost calibration may pick, however fast the host is.
+     */
+    private int maxBcryptStrength = 16;
+
+    public enum PasswordHashAlgorithm {
+        BCRYPT("bcrypt"),
+        PBKDF2("pbkdf2");
+
+        private final String id;
+
+        PasswordHashAlgorithm(String id) {
+            this.id = id;
+        }
+
+        public String getId() {
+            return id;
+        }
+    }
+}
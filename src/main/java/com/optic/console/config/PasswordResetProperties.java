@@ -0,0 +1,33 @@
+package com.optic.console.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "password-reset")
+@Component
+@Getter
+@Setter
+public class PasswordResetProperties {
+    /**
+     * Further forgot-password requests for the same account within this window reuse
+     * the first request's token and email instead of issuing new ones.
+     */
+    private Duration coalesceWindow = Duration.ofMinutes(15);
+
+    private Duration tokenValidity = Duration.ofHours(1);
+
+    /**
+     * Accepted requests waiting to be processed. Requests beyond this are dropped
+     * (the caller gets the same response either way).
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * Accounts remembered for in-memory coalescing.
+     */
+    private long maxTrackedAccounts = 100_000;
+}
@@ -0,0 +1,33 @@
+package com.optic.console.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ingestion.api-keys")
+@Component
+@Getter
+@Setter
+public class ProjectApiKeyProperties {
+    /**
+     * Resolved API keys kept in memory.
+     */
+    private int maxSize = 100_000;
+
+    /**
+     * Resolved keys are looked up again after this long. Rotations on this instance take
+     * effect immediately; the TTL bounds how long another instance accepts a rotated key.
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * Unknown keys remembered so repeated requests with them skip the database. Kept
+     * apart from resolved keys so random keys cannot evict real ones.
+     */
+    private int negativeMaxSize = 10_000;
+
+    private Duration negativeTtl = Duration.ofMinutes(1);
+}
@@ -0,0 +1,42 @@
+package com.optic.console.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "diagnostics.slow-query")
+@Component
+@Getter
+@Setter
+public class SlowQueryLogProperties {
+    /**
+     * Logs JDBC statements that take longer than {@link #threshold} to the
+     * {@code sql.slow} logger, one line per statement.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Statements faster than this are neither logged nor counted.
+     */
+    private Duration threshold = Duration.ofMillis(200);
+
+    /**
+     * Fraction of slow statements that are logged (0.0 - 1.0). Every slow statement is
+     * still counted in {@code db.statement.slow}.
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * Log bind parameters as their type only. Turn off just for local debugging; bind
+     * values carry emails, password hashes and token digests.
+     */
+    private boolean redactParameters = true;
+
+    /**
+     * Longer SQL text is truncated in the log line.
+     */
+    private int maxSqlLength = 2000;
+}
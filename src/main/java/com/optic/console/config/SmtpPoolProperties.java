@@ -0,0 +1,48 @@
+package com.optic.console.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "email.smtp-pool")
+@Component
+@Getter
+@Setter
+public class SmtpPoolProperties {
+    /**
+     * Keep SMTP connections open between sends. When disabled every send opens
+     * (and STARTTLS-negotiates) its own connection.
+     */
+    private boolean enabled = true;
+
+    private int maxConnections = 4;
+
+    /**
+     * How long a send waits for a free connection before failing.
+     */
+    private Duration borrowTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Connections idle for longer than this are closed by the eviction task. Keep it
+     * below the server's own idle timeout.
+     */
+    private Duration idleTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Connections idle for longer than this are checked with a NOOP before reuse.
+     */
+    private Duration validateAfterIdle = Duration.ofSeconds(5);
+
+    /**
+     * Connections are replaced after this long, however busy they are.
+     */
+    private Duration maxLifetime = Duration.ofMinutes(10);
+
+    /**
+     * How often idle and expired connections are closed.
+     */
+    private Duration evictionInterval = Duration.ofSeconds(15);
+}
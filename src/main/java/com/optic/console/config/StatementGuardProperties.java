@@ -0,0 +1,28 @@
+package com.optic.console.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "diagnostics.statement-guard")
+@Component
+@Getter
+@Setter
+public class StatementGuardProperties {
+    /**
+     * Counts the SQL statements Hibernate runs for each HTTP request.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Requests running more statements than this are reported.
+     */
+    private int maxStatementsPerRequest = 20;
+
+    /**
+     * Fail the request instead of logging a warning. Meant for tests, where an N+1
+     * query should break the build.
+     */
+    private boolean failOnExceed = false;
+}
@@ -0,0 +1,12 @@
+package com.optic.console.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Purge of verification tokens; {@code retention} counts from the token's expiry.
+ */
+@ConfigurationProperties(prefix = "verification-token.purge")
+@Component
+public class VerificationTokenPurgeProperties extends BatchPurgeProperties {
+}
@@ -0,0 +1,30 @@
+package com.optic.console.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "diagnostics.virtual-threads")
+@Component
+@Getter
+@Setter
+public class VirtualThreadDiagnosticsProperties {
+    /**
+     * Streams JFR pinning events and reports where virtual threads blocked while
+     * pinned to their carrier (inside synchronized blocks or native frames).
+     */
+    private boolean pinningMonitor = false;
+
+    /**
+     * Pinned blocks shorter than this are ignored.
+     */
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+
+    /**
+     * Stack frames included in the log entry for a newly seen pinning site.
+     */
+    private int stackDepth = 12;
+}
@@ -1,6 +1,5 @@
 package com.optic.console.domain.auth;
 
-import com.optic.console.domain.auth.Role;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -19,7 +18,8 @@ import java.util.Set;
 @Builder
 public class Permission {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "permissions_id_seq")
+    @SequenceGenerator(name = "permissions_id_seq", sequenceName = "permissions_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
@@ -28,7 +28,18 @@ public class Permission {
     @Column
     private String description;
 
+    /**
+     * The {@link PermissionKey} bit; null for permissions the application does not check.
+     */
+    @Column(unique = true)
+    private Short bit;
+
     @ManyToMany
+    @JoinTable(
+            name = "role_permissions",
+            joinColumns = @JoinColumn(name = "permission_id"),
+            inverseJoinColumns = @JoinColumn(name = "role_id")
+    )
     @Builder.Default
     private Set<Role> roles = new HashSet<>();
 
@@ -0,0 +1,83 @@
+package com.optic.console.domain.auth;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The permissions the application checks, each with a fixed bit in
+ * {@code roles.permission_mask}. Bits are part of the stored data: never renumber or
+ * reuse one; retire a permission by leaving its bit unused.
+ */
+public enum PermissionKey {
+    WORKSPACE_VIEW("workspace.view", 0),
+    WORKSPACE_SETTINGS_MANAGE("workspace.settings.manage", 1),
+    WORKSPACE_DELETE("workspace.delete", 2),
+    MEMBERS_VIEW("members.view", 3),
+    MEMBERS_MANAGE("members.manage", 4),
+    ROLES_MANAGE("roles.manage", 5),
+    PROJECTS_VIEW("projects.view", 6),
+    PROJECTS_CREATE("projects.create", 7),
+    PROJECTS_MANAGE("projects.manage", 8),
+    PROJECTS_DELETE("projects.delete", 9),
+    API_KEYS_MANAGE("api-keys.manage", 10),
+    EVENTS_READ("events.read", 11),
+    EVENTS_WRITE("events.write", 12),
+    BILLING_MANAGE("billing.manage", 13);
+
+    /**
+     * {@code roles.permission_mask} is a bigint.
+     */
+    public static final int MAX_BITS = 64;
+
+    private static final Map<String, PermissionKey> BY_NAME = new HashMap<>();
+
+    static {
+        long seen = 0;
+        for (PermissionKey key : values()) {
+            if (key.bit < 0 || key.bit >= MAX_BITS || (seen & key.mask()) != 0) {
+                throw new IllegalStateException("Invalid or duplicate permission bit " + key.bit + " for " + key.name);
+            }
+            seen |= key.mask();
+            BY_NAME.put(key.name, key);
+        }
+    }
+
+    private final String name;
+    private final int bit;
+
+    PermissionKey(String name, int bit) {
+        this.name = name;
+        this.bit = bit;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getBit() {
+        return bit;
+    }
+
+    public long mask() {
+        return 1L << bit;
+    }
+
+    public boolean isIn(long permissionMask) {
+        return (permissionMask & mask()) != 0;
+    }
+
+    /**
+     * Returns null for names that are not in the registry.
+     */
+    public static PermissionKey fromName(String name) {
+        return name != null ? BY_NAME.get(name) : null;
+    }
+
+    public static long maskOf(PermissionKey... keys) {
+        long mask = 0;
+        for (PermissionKey key : keys) {
+            mask |= key.mask();
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,28 @@
+package com.optic.console.domain.auth;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Data
+@Entity
+@Table(name = "revoked_access_tokens")
+public class RevokedAccessToken {
+    // Stays on IDENTITY: TokenRevocationService reads new rows by "id greater than the
+    // last seen", which needs ids in insert order across instances, not pre-allocated blocks.
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String jti;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime revokedAt = LocalDateTime.now();
+}
@@ -0,0 +1,32 @@
+package com.optic.console.domain.auth;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, Long> {
+    boolean existsByJti(String jti);
+
+    /**
+     * Unexpired revocations with an id above {@code afterId}, oldest first, for
+     * incremental filter refreshes.
+     */
+    List<RevokedJti> findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(Long afterId, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedAccessToken r where r.expiresAt < :cutoff")
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    interface RevokedJti {
+        Long getId();
+        String getJti();
+    }
+}
@@ -3,8 +3,10 @@ package com.optic.console.domain.auth;
 import com.optic.console.domain.workspace.Workspace;
 import jakarta.persistence.*;
 import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -12,27 +14,46 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "roles")
 @Getter
 @Setter
+@NoArgsConstructor
+@AllArgsConstructor
 @Builder
 public class Role {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "roles_id_seq")
+    @SequenceGenerator(name = "roles_id_seq", sequenceName = "roles_id_seq", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 100)
+    @Column(nullable = false, length = 100)
     private String name;
 
-    @Column(nullable = false, unique = true, length = 100)
+    /**
+     * Unique per workspace; system roles (no workspace) use fixed slugs such as {@code owner}.
+     */
+    @Column(nullable = false, length = 100)
     private String slug;
 
-    @Column(length = 50)
+    @Column(nullable = false, length = 50)
     private String scope;
 
+    @Builder.Default
+    @Column(name = "is_system")
+    private Boolean isSystem = false;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "workspace_id")
     private Workspace workspace;
 
+    /**
+     * OR of the {@link PermissionKey} bits granted to this role. Maintained by a database
+     * trigger from {@code role_permissions}; read-only here.
+     */
+    @Builder.Default
+    @Column(name = "permission_mask", nullable = false, insertable = false, updatable = false)
+    private Long permissionMask = 0L;
+
     @Column
     private String description;
 
@@ -44,5 +65,7 @@ public class Role {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
-
+    public boolean hasPermission(PermissionKey permission) {
+        return permissionMask != null && permission.isIn(permissionMask);
+    }
 }
@@ -3,6 +3,8 @@ package com.optic.console.domain.auth;
 import com.optic.console.domain.user.User;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import java.time.LocalDateTime;
 
 @Data
@@ -10,16 +12,25 @@ import java.time.LocalDateTime;
 @Table(name = "verification_tokens")
 public class VerificationToken {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "verification_tokens_id_seq")
+    @SequenceGenerator(name = "verification_tokens_id_seq", sequenceName = "verification_tokens_id_seq", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(name = "token_hash", nullable = false, unique = true, columnDefinition = "bytea")
+    private byte[] tokenHash;
+
+    /**
+     * The raw token, only known right after creation so it can be sent to the user.
+     */
+    @Transient
     private String token;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private TokenType type;
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
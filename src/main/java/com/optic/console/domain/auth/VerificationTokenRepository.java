@@ -1,7 +1,11 @@
 package com.optic.console.domain.auth;
 
 import com.optic.console.domain.user.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -9,8 +13,43 @@ import java.util.Optional;
 
 @Repository
 public interface VerificationTokenRepository extends JpaRepository<VerificationToken, Long> {
-    Optional<VerificationToken> findByTokenAndType(String token, TokenType type);
+    /**
+     * Fetches the user in the same query; password reset and email verification both update it.
+     */
+    @EntityGraph(attributePaths = "user")
+    Optional<VerificationToken> findByTokenHashAndType(byte[] tokenHash, TokenType type);
+
+    /**
+     * Reads only the columns included in the token hash index, so the check is an index-only scan.
+     */
+    Optional<TokenValidity> findValidityByTokenHashAndType(byte[] tokenHash, TokenType type);
+
     boolean existsByUserAndTypeAndUsedAtIsNull(User user, TokenType type);
-    void deleteByExpiresAtBefore(LocalDateTime date);
     Optional<VerificationToken> findByUserAndTypeAndUsedAtIsNull(User user, TokenType type);
+
+    /**
+     * Deletes up to {@code limit} tokens that expired before the cutoff, oldest first,
+     * without loading them.
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM verification_tokens
+            WHERE id IN (
+                SELECT id FROM verification_tokens
+                WHERE expires_at < :cutoff
+                ORDER BY expires_at
+                LIMIT :limit
+            )
+            """, nativeQuery = true)
+    int deleteExpiredBatch(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    interface TokenValidity {
+        LocalDateTime getExpiresAt();
+
+        LocalDateTime getUsedAt();
+
+        default boolean isValid() {
+            return getUsedAt() == null && !LocalDateTime.now().isAfter(getExpiresAt());
+        }
+    }
 }
\ No newline at end of file
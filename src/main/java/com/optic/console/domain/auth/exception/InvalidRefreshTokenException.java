@@ -0,0 +1,16 @@
+package com.optic.console.domain.auth.exception;
+
+import com.optic.console.infrastructure.exception.ApiException;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a refresh token is unknown, expired, revoked or reused.
+ */
+public class InvalidRefreshTokenException extends ApiException {
+
+    private static final String DEFAULT_MESSAGE = "The refresh token is invalid";
+
+    public InvalidRefreshTokenException() {
+        super(DEFAULT_MESSAGE, HttpStatus.UNAUTHORIZED);
+    }
+}
@@ -0,0 +1,44 @@
+package com.optic.console.domain.email;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    /**
+     * Locks up to {@code limit} messages that are due, including ones whose previous
+     * claim expired. Rows locked by another dispatcher are skipped rather than waited on.
+     */
+    @Query(value = """
+            SELECT * FROM email_outbox
+            WHERE (status = 'PENDING' AND next_attempt_at <= :now)
+               OR (status = 'SENDING' AND locked_until < :now)
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<EmailOutboxMessage> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Deletes up to {@code limit} delivered or abandoned messages created before the
+     * cutoff, without loading them.
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM email_outbox
+            WHERE id IN (
+                SELECT id FROM email_outbox
+                WHERE status IN ('SENT', 'FAILED') AND created_at < :cutoff
+                ORDER BY created_at
+                LIMIT :limit
+            )
+            """, nativeQuery = true)
+    int deleteFinishedBatch(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -0,0 +1,8 @@
+package com.optic.console.domain.email;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
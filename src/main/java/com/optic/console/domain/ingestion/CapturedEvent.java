@@ -0,0 +1,19 @@
+package com.optic.console.domain.ingestion;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One validated SDK event on its way to the {@code events} table. {@code properties}
+ * is the event's properties object as JSON text, or null.
+ */
+public record CapturedEvent(
+        long projectId,
+        UUID uuid,
+        String event,
+        String distinctId,
+        String properties,
+        Instant timestamp,
+        Instant receivedAt
+) {
+}
@@ -0,0 +1,7 @@
+package com.optic.console.domain.ingestion.dto;
+
+/**
+ * Number of events committed for the request.
+ */
+public record CaptureResponse(int accepted) {
+}
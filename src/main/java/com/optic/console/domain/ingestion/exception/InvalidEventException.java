@@ -0,0 +1,15 @@
+package com.optic.console.domain.ingestion.exception;
+
+import com.optic.console.infrastructure.exception.ApiException;
+import org.springframework.http.HttpStatus;
+
+/**
+ * The request body is not valid JSON or an event in it fails validation. Nothing from
+ * the request is stored.
+ */
+public class InvalidEventException extends ApiException {
+
+    public InvalidEventException(String message) {
+        super(message, HttpStatus.BAD_REQUEST);
+    }
+}
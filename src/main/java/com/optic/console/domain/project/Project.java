@@ -0,0 +1,68 @@
+package com.optic.console.domain.project;
+
+import com.optic.console.domain.workspace.Workspace;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(
+        name = "projects",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"workspace_id", "slug"})
+)
+@EntityListeners(ProjectListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Project {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_id_seq")
+    @SequenceGenerator(name = "projects_id_seq", sequenceName = "projects_id_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "workspace_id", nullable = false)
+    private Workspace workspace;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false, length = 100)
+    private String slug;
+
+    /**
+     * SHA-256 of the API key; the key itself is only shown once, when issued.
+     */
+    @Column(name = "api_key_hash", nullable = false, unique = true, columnDefinition = "bytea")
+    private byte[] apiKeyHash;
+
+    @Column(name = "api_key_prefix", nullable = false, length = 12)
+    private String apiKeyPrefix;
+
+    @Builder.Default
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "allowed_origins", columnDefinition = "text[]")
+    private List<String> allowedOrigins = new ArrayList<>();
+
+    @Builder.Default
+    @Column(name = "enforce_origin_check", nullable = false)
+    private Boolean enforceOriginCheck = false;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+}
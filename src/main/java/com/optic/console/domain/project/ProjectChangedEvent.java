@@ -0,0 +1,7 @@
+package com.optic.console.domain.project;
+
+/**
+ * Published when a project's API key, origin settings or existence change.
+ */
+public record ProjectChangedEvent(Long projectId) {
+}
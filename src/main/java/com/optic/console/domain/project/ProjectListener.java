@@ -0,0 +1,24 @@
+package com.optic.console.domain.project;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Announces project updates (key rotation, origin changes) and deletions so cached API
+ * key resolutions can be dropped. Created by Hibernate through Spring's bean container.
+ */
+public class ProjectListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProjectListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostUpdate
+    @PostRemove
+    void projectChanged(Project project) {
+        eventPublisher.publishEvent(new ProjectChangedEvent(project.getId()));
+    }
+}
@@ -0,0 +1,16 @@
+package com.optic.console.domain.project;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ProjectRepository extends JpaRepository<Project, Long> {
+
+    /**
+     * The project owning an API key, unless its workspace has been deleted.
+     */
+    @Query("SELECT p FROM Project p JOIN p.workspace w WHERE p.apiKeyHash = :apiKeyHash AND w.deletedAt IS NULL")
+    Optional<Project> findActiveByApiKeyHash(@Param("apiKeyHash") byte[] apiKeyHash);
+}
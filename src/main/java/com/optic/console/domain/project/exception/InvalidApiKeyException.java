@@ -0,0 +1,11 @@
+package com.optic.console.domain.project.exception;
+
+import com.optic.console.infrastructure.exception.ApiException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidApiKeyException extends ApiException {
+
+    public InvalidApiKeyException(String message) {
+        super(message, HttpStatus.UNAUTHORIZED);
+    }
+}
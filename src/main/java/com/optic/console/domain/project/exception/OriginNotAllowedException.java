@@ -0,0 +1,14 @@
+package com.optic.console.domain.project.exception;
+
+import com.optic.console.infrastructure.exception.ApiException;
+import org.springframework.http.HttpStatus;
+
+/**
+ * The project enforces its allowed origins and the request's {@code Origin} is not one of them.
+ */
+public class OriginNotAllowedException extends ApiException {
+
+    public OriginNotAllowedException(String message) {
+        super(message, HttpStatus.FORBIDDEN);
+    }
+}
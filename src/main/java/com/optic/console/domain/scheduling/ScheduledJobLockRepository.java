@@ -0,0 +1,41 @@
+package com.optic.console.domain.scheduling;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ScheduledJobLockRepository extends JpaRepository<ScheduledJobLock, String> {
+
+    /**
+     * Takes the lease if nobody holds it or the holder's lease has run out. Lease times
+     * come from the database clock so instances with skewed clocks agree on expiry.
+     *
+     * @return 1 if the lease was taken, 0 if another instance holds it
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO scheduled_job_locks (name, locked_until, locked_at, locked_by)
+            VALUES (:name, now() + make_interval(secs => :leaseSeconds), now(), :lockedBy)
+            ON CONFLICT (name) DO UPDATE
+                SET locked_until = EXCLUDED.locked_until,
+                    locked_at = EXCLUDED.locked_at,
+                    locked_by = EXCLUDED.locked_by
+                WHERE scheduled_job_locks.locked_until <= now()
+            """, nativeQuery = true)
+    int tryAcquire(@Param("name") String name,
+                   @Param("leaseSeconds") long leaseSeconds,
+                   @Param("lockedBy") String lockedBy);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE scheduled_job_locks SET locked_until = now()
+            WHERE name = :name AND locked_by = :lockedBy
+            """, nativeQuery = true)
+    int release(@Param("name") String name, @Param("lockedBy") String lockedBy);
+}
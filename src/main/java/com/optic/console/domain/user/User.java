@@ -1,6 +1,7 @@
 package com.optic.console.domain.user;
 
 import com.optic.console.domain.auth.VerificationToken;
+import com.optic.console.domain.workspace.Workspace;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -23,7 +24,8 @@ import java.util.Set;
 public class User implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
@@ -44,7 +46,7 @@ public class User implements UserDetails {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "last_accessed_workspace_id")
-//    private Workspace lastAccessedWorkspace;
+    private Workspace lastAccessedWorkspace;
 
     @CreationTimestamp
     @Column(name = "created_at", updatable = false, nullable = false)
@@ -60,6 +62,13 @@ public class User implements UserDetails {
     @Column(name = "email_verified_at")
     private LocalDateTime emailVerifiedAt;
 
+    /**
+     * Embedded in every issued JWT. Incrementing it invalidates all tokens issued before.
+     */
+    @Builder.Default
+    @Column(name = "token_version", nullable = false)
+    private Integer tokenVersion = 0;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<VerificationToken> authTokens = new HashSet<>();
 
@@ -89,6 +98,10 @@ public class User implements UserDetails {
         return true;
     }
 
+    public void incrementTokenVersion() {
+        this.tokenVersion = (tokenVersion == null ? 0 : tokenVersion) + 1;
+    }
+
     public String getFullName() {
         String fullName = "";
         if (firstName != null && !firstName.trim().isEmpty()) {
@@ -0,0 +1,20 @@
+package com.optic.console.domain.workspace;
+
+/**
+ * Published when a user's workspace or project memberships, or the permissions of a
+ * role, change. A null user id means the change may affect anyone (a role edit).
+ */
+public record MembershipChangedEvent(Long userId) {
+
+    public static MembershipChangedEvent forUser(Long userId) {
+        return new MembershipChangedEvent(userId);
+    }
+
+    public static MembershipChangedEvent forEveryone() {
+        return new MembershipChangedEvent(null);
+    }
+
+    public boolean affectsEveryone() {
+        return userId == null;
+    }
+}
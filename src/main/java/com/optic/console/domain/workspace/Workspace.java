@@ -23,7 +23,8 @@ import java.time.Instant;
 public class Workspace {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workspaces_id_seq")
+    @SequenceGenerator(name = "workspaces_id_seq", sequenceName = "workspaces_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -14,6 +14,11 @@ import java.time.*;
         name = "workspace_members",
         uniqueConstraints = @UniqueConstraint(columnNames = {"workspace_id", "user_id"})
 )
+@NamedEntityGraph(
+        name = WorkspaceMember.WITH_ROLE_AND_WORKSPACE,
+        attributeNodes = {@NamedAttributeNode("role"), @NamedAttributeNode("workspace")}
+)
+@EntityListeners(WorkspaceMemberListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,8 +26,11 @@ import java.time.*;
 @Builder
 public class WorkspaceMember {
 
+    public static final String WITH_ROLE_AND_WORKSPACE = "WorkspaceMember.withRoleAndWorkspace";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workspace_members_id_seq")
+    @SequenceGenerator(name = "workspace_members_id_seq", sequenceName = "workspace_members_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -46,15 +54,19 @@ public class WorkspaceMember {
     private Instant updatedAt;
 
     public boolean isOwner() {
-        return role != null && "owner".equalsIgnoreCase(role.getSlug());
+        return hasRole("owner");
     }
 
     public boolean isAdmin() {
-        return "admin".equals(role);
+        return hasRole("admin");
     }
 
     public boolean isMember() {
-        return "member".equals(role);
+        return hasRole("member");
+    }
+
+    private boolean hasRole(String slug) {
+        return role != null && slug.equalsIgnoreCase(role.getSlug());
     }
 
     public boolean canManageMembers() {
@@ -0,0 +1,28 @@
+package com.optic.console.domain.workspace;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Announces membership writes so cached authorization state can be dropped. Created
+ * by Hibernate through Spring's bean container, hence the constructor injection.
+ */
+public class WorkspaceMemberListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public WorkspaceMemberListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void membershipChanged(WorkspaceMember member) {
+        if (member.getUser() != null) {
+            eventPublisher.publishEvent(MembershipChangedEvent.forUser(member.getUser().getId()));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.optic.console.domain.workspace;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Memberships are always read together with their role and workspace (one joined
+ * query), since every caller checks the role and most show the workspace.
+ */
+@Repository
+public interface WorkspaceMemberRepository extends JpaRepository<WorkspaceMember, Long> {
+    @EntityGraph(WorkspaceMember.WITH_ROLE_AND_WORKSPACE)
+    List<WorkspaceMember> findByUserId(Long userId);
+
+    @EntityGraph(WorkspaceMember.WITH_ROLE_AND_WORKSPACE)
+    List<WorkspaceMember> findByWorkspaceId(Long workspaceId);
+
+    @EntityGraph(WorkspaceMember.WITH_ROLE_AND_WORKSPACE)
+    Optional<WorkspaceMember> findByWorkspaceIdAndUserId(Long workspaceId, Long userId);
+
+    /**
+     * Every workspace and project membership of the user with its role's permission
+     * mask, one row per membership, in a single round trip.
+     */
+    @Query(value = """
+            SELECT 'workspace' AS scope, wm.workspace_id AS "targetId", wm.workspace_id AS "workspaceId",
+                   r.slug AS "roleSlug", r.permission_mask AS "permissionMask"
+            FROM workspace_members wm
+            JOIN workspaces w ON w.id = wm.workspace_id AND w.deleted_at IS NULL
+            JOIN roles r ON r.id = wm.role_id
+            WHERE wm.user_id = :userId
+            UNION ALL
+            SELECT 'project', pm.project_id, pr.workspace_id, r.slug, r.permission_mask
+            FROM project_members pm
+            JOIN projects pr ON pr.id = pm.project_id
+            JOIN workspaces w ON w.id = pr.workspace_id AND w.deleted_at IS NULL
+            JOIN roles r ON r.id = pm.role_id
+            WHERE pm.user_id = :userId
+            """, nativeQuery = true)
+    List<GrantRow> findGrantsByUserId(@Param("userId") Long userId);
+
+    /**
+     * One membership; {@code targetId} is the workspace or project id depending on
+     * {@code scope}, {@code permissionMask} the role's {@code PermissionKey} bits.
+     */
+    interface GrantRow {
+        String SCOPE_WORKSPACE = "workspace";
+        String SCOPE_PROJECT = "project";
+
+        String getScope();
+
+        Long getTargetId();
+
+        Long getWorkspaceId();
+
+        String getRoleSlug();
+
+        Long getPermissionMask();
+    }
+}
@@ -0,0 +1,110 @@
+package com.optic.console.infrastructure.diagnostics;
+
+import com.optic.console.config.VirtualThreadDiagnosticsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that blocked while pinned to their carrier thread, using the
+ * JDK's {@code jdk.VirtualThreadPinned} events. Each pinning site is logged once with
+ * its stack; sites where the blocking call was JDBC are tagged, since a monitor held
+ * across a database round trip takes a carrier away for the whole query.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "diagnostics.virtual-threads", name = "pinning-monitor", havingValue = "true")
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_REPORTED_SITES = 1000;
+    private static final List<String> JDBC_PACKAGES = List.of("org.postgresql.", "com.zaxxer.hikari.", "java.sql.");
+
+    private final VirtualThreadDiagnosticsProperties properties;
+    private final Counter jdbcPinned;
+    private final Counter otherPinned;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadDiagnosticsProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcPinned = pinnedCounter(meterRegistry, "true");
+        this.otherPinned = pinnedCounter(meterRegistry, "false");
+    }
+
+    private static Counter pinnedCounter(MeterRegistry meterRegistry, String jdbc) {
+        return Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads that blocked while pinned to their carrier")
+                .tag("jdbc", jdbc)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT)
+                .withThreshold(properties.getPinnedThreshold())
+                .withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold {})", properties.getPinnedThreshold());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event);
+        boolean jdbc = frames.stream().anyMatch(VirtualThreadPinningMonitor::isJdbcFrame);
+        (jdbc ? jdbcPinned : otherPinned).increment();
+
+        String site = frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith("com.optic."))
+                .findFirst()
+                .map(VirtualThreadPinningMonitor::format)
+                .orElseGet(() -> frames.isEmpty() ? "unknown" : format(frames.get(0)));
+
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+            String stack = frames.stream()
+                    .limit(Math.max(1, properties.getStackDepth()))
+                    .map(VirtualThreadPinningMonitor::format)
+                    .collect(Collectors.joining("\n\tat ", "\tat ", ""));
+            log.warn("Virtual thread pinned for {} ms at {}{}:\n{}",
+                    event.getDuration().toMillis(), site, jdbc ? " during JDBC" : "", stack);
+        } else {
+            log.debug("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), site);
+        }
+    }
+
+    private static List<RecordedFrame> frames(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        return stackTrace != null ? stackTrace.getFrames() : List.of();
+    }
+
+    private static boolean isJdbcFrame(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return JDBC_PACKAGES.stream().anyMatch(type::startsWith);
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    @Override
+    public void destroy() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
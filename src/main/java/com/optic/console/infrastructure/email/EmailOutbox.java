@@ -0,0 +1,136 @@
+package com.optic.console.infrastructure.email;
+
+import com.optic.console.config.EmailOutboxProperties;
+import com.optic.console.domain.email.EmailOutboxMessage;
+import com.optic.console.domain.email.EmailOutboxRepository;
+import com.optic.console.domain.email.EmailOutboxStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Persistent queue of outgoing emails. Messages are written in the caller's
+ * transaction, so they are only sent if that transaction commits.
+ * <p>
+ * Template variables can carry single-use links, so they are cleared as soon as a
+ * message is SENT or FAILED, and finished rows are deleted by {@link EmailOutboxPurgeJob}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailOutboxProperties properties;
+
+    @Transactional
+    public EmailOutboxMessage enqueue(OutgoingEmail email) {
+        EmailOutboxMessage message = new EmailOutboxMessage();
+        message.setRecipient(email.to());
+        message.setSubject(email.subject());
+        message.setTemplate(email.template());
+        message.setVariables(new HashMap<>(email.variables()));
+        return emailOutboxRepository.save(message);
+    }
+
+    /**
+     * Reserves up to {@code limit} due messages for this dispatcher and counts the attempt.
+     */
+    @Transactional
+    public List<EmailOutboxMessage> claimDue(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutboxMessage> due = emailOutboxRepository.lockDue(now, limit);
+        for (EmailOutboxMessage message : due) {
+            message.setStatus(EmailOutboxStatus.SENDING);
+            message.setLockedUntil(now.plus(properties.getLease()));
+            message.setAttempts(message.getAttempts() + 1);
+        }
+        return due;
+    }
+
+    @Transactional
+    public void markSent(Long id) {
+        emailOutboxRepository.findById(id).ifPresent(message -> {
+            message.setStatus(EmailOutboxStatus.SENT);
+            message.setSentAt(LocalDateTime.now());
+            message.setLockedUntil(null);
+            message.setLastError(null);
+            message.setVariables(new HashMap<>());
+        });
+    }
+
+    /**
+     * Schedules another attempt with exponential backoff, or gives up once
+     * {@code email.outbox.max-attempts} is reached.
+     *
+     * @return the status the message was left in
+     */
+    @Transactional
+    public EmailOutboxStatus markFailed(Long id, String error) {
+        EmailOutboxMessage message = emailOutboxRepository.findById(id).orElse(null);
+        if (message == null) {
+            return EmailOutboxStatus.FAILED;
+        }
+
+        message.setLockedUntil(null);
+        message.setLastError(truncate(error));
+
+        if (message.getAttempts() >= properties.getMaxAttempts()) {
+            message.setStatus(EmailOutboxStatus.FAILED);
+            message.setVariables(new HashMap<>());
+            log.error("Giving up on email {} to {} after {} attempts: {}",
+                    id, message.getRecipient(), message.getAttempts(), error);
+        } else {
+            message.setStatus(EmailOutboxStatus.PENDING);
+            message.setNextAttemptAt(LocalDateTime.now().plus(backoff(message.getAttempts())));
+        }
+        return message.getStatus();
+    }
+
+    /**
+     * Deletes one batch of SENT or FAILED messages created before the cutoff in its
+     * own transaction. See {@link EmailOutboxPurgeJob}.
+     */
+    @Transactional
+    public int purgeFinishedBatch(LocalDateTime cutoff, int batchSize) {
+        return emailOutboxRepository.deleteFinishedBatch(cutoff, batchSize);
+    }
+
+    /**
+     * Delay before the attempt following {@code attempts} failed ones: initial backoff
+     * doubled per attempt, capped at max backoff, with up to 20% jitter so a burst of
+     * failures does not retry in lockstep.
+     */
+    Duration backoff(int attempts) {
+        long initial = properties.getInitialBackoff().toMillis();
+        long max = properties.getMaxBackoff().toMillis();
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+
+        long delay = Math.min(max, initial << exponent);
+        if (delay <= 0) {
+            delay = max;
+        }
+        long jitter = delay / 5 > 0 ? ThreadLocalRandom.current().nextLong(delay / 5 + 1) : 0;
+        return Duration.ofMillis(delay - jitter);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,151 @@
+package com.optic.console.infrastructure.email;
+
+import com.optic.console.config.EmailOutboxProperties;
+import com.optic.console.domain.email.EmailOutboxMessage;
+import com.optic.console.domain.email.EmailOutboxStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains the email outbox. Each poll claims only as many messages as the free send
+ * slots can take ({@code email.outbox.concurrency} tasks of up to
+ * {@code email.outbox.batch-size} messages), so unclaimed messages stay available to
+ * other instances. Each task sends its batch over one pooled SMTP connection.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "email.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class EmailOutboxDispatcher implements DisposableBean {
+
+    private final EmailOutbox emailOutbox;
+    private final EmailSender emailSender;
+    private final int concurrency;
+    private final int batchSize;
+    private final ExecutorService executor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+
+    public EmailOutboxDispatcher(EmailOutbox emailOutbox,
+                                 EmailSender emailSender,
+                                 EmailOutboxProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.emailOutbox = emailOutbox;
+        this.emailSender = emailSender;
+        this.concurrency = Math.max(1, properties.getConcurrency());
+        this.batchSize = Math.max(1, properties.getBatchSize());
+
+        // Platform threads even in virtual-thread mode: Jakarta Mail's SMTPTransport
+        // holds its monitor while talking to the server, which would pin virtual threads.
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                concurrency, concurrency,
+                60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "email-dispatch-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.sent = dispatchCounter(meterRegistry, "sent");
+        this.retried = dispatchCounter(meterRegistry, "retry");
+        this.failed = dispatchCounter(meterRegistry, "failed");
+    }
+
+    private static Counter dispatchCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("email.outbox.dispatch")
+                .description("Email outbox delivery attempts by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval:PT2S}")
+    public void poll() {
+        int free = concurrency - inFlight.get();
+        if (free <= 0) {
+            return;
+        }
+
+        List<EmailOutboxMessage> claimed;
+        try {
+            claimed = emailOutbox.claimDue(free * batchSize);
+        } catch (DataAccessException e) {
+            log.warn("Could not claim outbox emails: {}", e.getMessage());
+            return;
+        }
+
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        // Spread a small backlog over the free slots instead of queueing it on one connection.
+        int chunkSize = Math.min(batchSize, (claimed.size() + free - 1) / free);
+        for (int start = 0; start < claimed.size(); start += chunkSize) {
+            List<EmailOutboxMessage> batch = claimed.subList(start, Math.min(start + chunkSize, claimed.size()));
+            inFlight.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    deliver(batch);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    void deliver(List<EmailOutboxMessage> batch) {
+        List<OutgoingEmail> emails = batch.stream()
+                .map(message -> new OutgoingEmail(
+                        message.getRecipient(), message.getSubject(), message.getTemplate(), message.getVariables()))
+                .toList();
+
+        List<SendResult> results;
+        try {
+            results = emailSender.sendAll(emails);
+        } catch (RuntimeException e) {
+            results = emails.stream().map(email -> SendResult.failure(email, e)).toList();
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            EmailOutboxMessage message = batch.get(i);
+            SendResult result = results.get(i);
+            try {
+                if (result.isSuccess()) {
+                    emailOutbox.markSent(message.getId());
+                    sent.increment();
+                } else {
+                    log.warn("Failed to send email {} (attempt {}): {}",
+                            message.getId(), message.getAttempts(), result.error().getMessage());
+                    EmailOutboxStatus status = emailOutbox.markFailed(message.getId(), result.error().getMessage());
+                    (status == EmailOutboxStatus.FAILED ? failed : retried).increment();
+                }
+            } catch (DataAccessException e) {
+                // The lease expires and the message is picked up again.
+                log.error("Could not record the outcome for email {}", message.getId(), e);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.optic.console.infrastructure.email;
+
+import com.optic.console.config.EmailOutboxProperties;
+import com.optic.console.infrastructure.scheduling.BatchPurge;
+import com.optic.console.infrastructure.scheduling.JobLockService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes SENT and FAILED outbox messages older than {@code email.outbox.purge.retention}
+ * through {@link BatchPurge}, on whichever instance holds the job lock.
+ */
+@Component
+public class EmailOutboxPurgeJob {
+
+    static final String JOB_NAME = "email-outbox-purge";
+
+    private final BatchPurge purge;
+
+    public EmailOutboxPurgeJob(EmailOutbox emailOutbox,
+                               JobLockService jobLockService,
+                               EmailOutboxProperties outboxProperties,
+                               MeterRegistry meterRegistry) {
+        EmailOutboxProperties.Purge properties = outboxProperties.getPurge() != null
+                ? outboxProperties.getPurge()
+                : new EmailOutboxProperties.Purge();
+        this.purge = new BatchPurge(JOB_NAME, "email.outbox", properties,
+                emailOutbox::purgeFinishedBatch, jobLockService, meterRegistry);
+    }
+
+    @Scheduled(cron = "${email.outbox.purge.cron:0 30 0 * * ?}") // Daily at 00:30 by default
+    public void run() {
+        purge.run();
+    }
+}
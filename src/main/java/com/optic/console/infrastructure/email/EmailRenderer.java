@@ -0,0 +1,119 @@
+package com.optic.console.infrastructure.email;
+
+import com.optic.console.config.EmailRenderingProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders an email in a single Thymeleaf pass: the base layout inserts the fragment
+ * itself, so the fragment is no longer rendered to a String first. Output goes into
+ * a per-thread buffer that is reused between renders.
+ * <p>
+ * With {@code email.rendering.static-parts-cache} enabled, each template and
+ * variable set is rendered once with placeholders; later renders only splice the
+ * escaped values into the cached static parts. Before a cached template is used it
+ * is checked against a full render, and templates that do not match are always
+ * rendered through Thymeleaf.
+ */
+@Slf4j
+@Component
+public class EmailRenderer {
+
+    private static final int MAX_RETAINED_BUFFER = 256 * 1024;
+
+    // Values with every character the escaping has to handle.
+    private static final String PROBE_VALUE = "<probe a=\"1\" b='2'>&amp; & https://x.test/?a=1&b=2";
+
+    private final SpringTemplateEngine templateEngine;
+    private final EmailRenderingProperties properties;
+    private final Map<CacheKey, Optional<StaticPartsTemplate>> staticParts = new ConcurrentHashMap<>();
+    private final ThreadLocal<StringWriter> buffers = ThreadLocal.withInitial(() -> new StringWriter(8 * 1024));
+
+    public EmailRenderer(SpringTemplateEngine templateEngine, EmailRenderingProperties properties) {
+        this.templateEngine = templateEngine;
+        this.properties = properties;
+    }
+
+    public String render(OutgoingEmail email) {
+        if (!properties.isStaticPartsCache()) {
+            return renderFull(email.template(), email.variables());
+        }
+
+        CacheKey key = new CacheKey(email.template(), List.copyOf(new TreeSet<>(email.variables().keySet())));
+        return staticParts.computeIfAbsent(key, this::compile)
+                .map(template -> template.render(email.variables()))
+                .orElseGet(() -> renderFull(email.template(), email.variables()));
+    }
+
+    /**
+     * Renders the fragment inside the base layout through Thymeleaf.
+     */
+    public String renderFull(String template, Map<String, String> variables) {
+        Context context = new Context();
+        variables.forEach(context::setVariable);
+        context.setVariable("content", template + " :: content");
+
+        StringWriter buffer = buffers.get();
+        buffer.getBuffer().setLength(0);
+        templateEngine.process(properties.getBaseTemplate(), context, buffer);
+        String html = buffer.toString();
+
+        if (buffer.getBuffer().capacity() > MAX_RETAINED_BUFFER) {
+            buffers.remove();
+        }
+        return html;
+    }
+
+    /**
+     * Parses the base layout and every known fragment so the first real send does
+     * not pay for it. Parsed templates stay in Thymeleaf's template cache.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!properties.isWarmUp()) {
+            return;
+        }
+
+        for (String template : EmailTemplates.ALL) {
+            try {
+                renderFull(template, Map.of());
+            } catch (RuntimeException e) {
+                log.warn("Could not pre-render email template {}: {}", template, e.getMessage());
+            }
+        }
+    }
+
+    private Optional<StaticPartsTemplate> compile(CacheKey key) {
+        StaticPartsTemplate compiled = StaticPartsTemplate.compile(
+                key.variables(), placeholders -> renderFull(key.template(), placeholders));
+
+        if (compiled != null) {
+            Map<String, String> probe = new HashMap<>();
+            for (String variable : key.variables()) {
+                probe.put(variable, PROBE_VALUE + variable);
+            }
+            if (compiled.render(probe).equals(renderFull(key.template(), probe))) {
+                return Optional.of(compiled);
+            }
+        }
+
+        log.info("Email template {} with variables {} is rendered without the static parts cache",
+                key.template(), key.variables());
+        return Optional.empty();
+    }
+
+    private record CacheKey(String template, List<String> variables) {
+    }
+}
@@ -1,32 +1,153 @@
 package com.optic.console.infrastructure.email;
 
-import lombok.Getter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
 
 import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
 import jakarta.mail.internet.MimeMessage;
-import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Getter
-@Setter
 public class EmailSender {
 
     private final JavaMailSender mailSender;
-    private final SpringTemplateEngine templateEngine;
-    private String templatePath = "email/base";
+    private final EmailRenderer emailRenderer;
+    private final SmtpTransportPool transportPool;
+    private final MeterRegistry meterRegistry;
 
-    public void sendEmail(String to, String subject, String fragmentContent) {
+    /**
+     * Renders the email's fragment into the base layout and sends it.
+     */
+    public void send(OutgoingEmail email) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            doSend(email);
+            outcome = "success";
+        } finally {
+            sample.stop(Timer.builder("email.send.duration")
+                    .description("Time to render and deliver a single email")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private void doSend(OutgoingEmail email) {
+        MimeMessage message = createMessage(email.to(), email.subject(), emailRenderer.render(email));
+
+        if (!transportPool.isEnabled()) {
+            mailSender.send(message);
+            return;
+        }
+
+        try {
+            transportPool.execute(transport -> deliver(transport, message));
+        } catch (MessagingException e) {
+            throw new RuntimeException("Failed to send email to " + email.to(), e);
+        }
+    }
+
+    /**
+     * Sends the emails over one pooled SMTP connection. A rejected message does not
+     * stop the batch; the result list reports each email in input order.
+     */
+    public List<SendResult> sendAll(List<OutgoingEmail> emails) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return doSendAll(emails);
+        } finally {
+            sample.stop(Timer.builder("email.send.batch.duration")
+                    .description("Time to render and deliver a batch of emails")
+                    .register(meterRegistry));
+        }
+    }
+
+    private List<SendResult> doSendAll(List<OutgoingEmail> emails) {
+        SendResult[] results = new SendResult[emails.size()];
+        MimeMessage[] messages = new MimeMessage[emails.size()];
+        List<Integer> pending = new ArrayList<>(emails.size());
+
+        for (int i = 0; i < emails.size(); i++) {
+            OutgoingEmail email = emails.get(i);
+            try {
+                messages[i] = createMessage(email.to(), email.subject(), emailRenderer.render(email));
+                pending.add(i);
+            } catch (RuntimeException e) {
+                results[i] = SendResult.failure(email, e);
+            }
+        }
+
+        if (transportPool.isEnabled()) {
+            sendPooled(emails, messages, pending, results, true);
+        } else {
+            for (int i : pending) {
+                try {
+                    mailSender.send(messages[i]);
+                    results[i] = SendResult.success(emails.get(i));
+                } catch (MailException e) {
+                    results[i] = SendResult.failure(emails.get(i), e);
+                }
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private void sendPooled(List<OutgoingEmail> emails, MimeMessage[] messages, List<Integer> pending,
+                            SendResult[] results, boolean retryOnFreshConnection) {
+        BatchProgress progress = new BatchProgress();
+        try {
+            transportPool.execute(transport -> {
+                for (; progress.next < pending.size(); progress.next++) {
+                    int i = pending.get(progress.next);
+                    try {
+                        deliver(transport, messages[i]);
+                        results[i] = SendResult.success(emails.get(i));
+                        progress.delivered = true;
+                    } catch (SendFailedException e) {
+                        // Rejected recipients; the connection itself is still usable.
+                        results[i] = SendResult.failure(emails.get(i), e);
+                    }
+                }
+            });
+        } catch (MessagingException e) {
+            List<Integer> remaining = new ArrayList<>(pending.subList(progress.next, pending.size()));
+            if (retryOnFreshConnection && !progress.delivered) {
+                // Most likely a kept-alive connection the server had already dropped.
+                log.debug("SMTP connection failed before any message was accepted, retrying: {}", e.getMessage());
+                sendPooled(emails, messages, remaining, results, false);
+                return;
+            }
+            for (int i : remaining) {
+                results[i] = SendResult.failure(emails.get(i), e);
+            }
+        }
+    }
+
+    private static void deliver(Transport transport, MimeMessage message) throws MessagingException {
+        if (message.getSentDate() == null) {
+            message.setSentDate(new Date());
+        }
+        message.saveChanges();
+        transport.sendMessage(message, message.getAllRecipients());
+    }
+
+    private MimeMessage createMessage(String to, String subject, String html) {
         try {
             MimeMessage message = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(
@@ -35,22 +156,17 @@ public class EmailSender {
                     StandardCharsets.UTF_8.name()
             );
 
-            Context mainContext = new Context();
-            mainContext.setVariable("content", fragmentContent);
-
-            String html = templateEngine.process(getTemplatePath(), mainContext);
-
             helper.setTo(to);
             helper.setSubject(subject);
             helper.setText(html, true);
-
-            mailSender.send(message);
+            return message;
         } catch (MessagingException e) {
             throw new RuntimeException("Failed to send email to " + to, e);
         }
     }
 
-    public String renderFragment(String templateName, Context context) {
-        return templateEngine.process(templateName, context);
+    private static final class BatchProgress {
+        private int next;
+        private boolean delivered;
     }
-}
\ No newline at end of file
+}
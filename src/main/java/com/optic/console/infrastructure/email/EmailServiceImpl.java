@@ -4,13 +4,19 @@ import com.optic.console.config.ApplicationProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
 
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Queues auth emails in the outbox; {@link EmailOutboxDispatcher} renders and sends
+ * them after the calling transaction commits.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailServiceImpl implements EmailService {
-    private final EmailSender emailSender;
+    private final EmailOutbox emailOutbox;
     private final ApplicationProperties applicationProperties;
 
     @Override
@@ -19,21 +25,16 @@ public class EmailServiceImpl implements EmailService {
             throw new NullPointerException("Email and reset link cannot be null");
         }
 
-        Context context = new Context();
-        context.setVariable("name", name);
-        context.setVariable("resetLink", resetLink);
-        context.setVariable("content", "email/auth/forgot-password-request :: content");
-
-        String fragmentContent = emailSender.renderFragment(
-                "email/auth/forgot-password-request",
-                context
-        );
+        Map<String, String> variables = new HashMap<>();
+        variables.put("name", name);
+        variables.put("resetLink", resetLink);
 
-        emailSender.sendEmail(
+        emailOutbox.enqueue(new OutgoingEmail(
                 to,
                 "Password Reset - Optic Console",
-                fragmentContent
-        );
+                EmailTemplates.PASSWORD_RESET,
+                withoutNullValues(variables)
+        ));
     }
 
     @Override
@@ -42,14 +43,16 @@ public class EmailServiceImpl implements EmailService {
             throw new NullPointerException("Recipient email and verification link cannot be null");
         }
 
-        String templateName = "email/auth/email-verification";
-        Context context = new Context();
-        context.setVariable("verificationLink", verificationLink);
-        context.setVariable("content", templateName + " :: content");
-
-        String fragmentContent = emailSender.renderFragment(templateName, context);
-        emailSender.sendEmail(to,
+        emailOutbox.enqueue(new OutgoingEmail(
+                to,
                 "Verify your Email - " + applicationProperties.getName(),
-                fragmentContent);
+                EmailTemplates.EMAIL_VERIFICATION,
+                Map.of("verificationLink", verificationLink)
+        ));
+    }
+
+    private static Map<String, String> withoutNullValues(Map<String, String> variables) {
+        variables.values().removeIf(value -> value == null);
+        return variables;
     }
 }
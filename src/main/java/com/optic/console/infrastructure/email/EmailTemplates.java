@@ -0,0 +1,18 @@
+package com.optic.console.infrastructure.email;
+
+import java.util.List;
+
+/**
+ * Email fragment templates. Each one defines a {@code content} fragment that is
+ * inserted into the base layout.
+ */
+public final class EmailTemplates {
+
+    public static final String EMAIL_VERIFICATION = "email/auth/email-verification";
+    public static final String PASSWORD_RESET = "email/auth/forgot-password-request";
+
+    public static final List<String> ALL = List.of(EMAIL_VERIFICATION, PASSWORD_RESET);
+
+    private EmailTemplates() {
+    }
+}
@@ -0,0 +1,14 @@
+package com.optic.console.infrastructure.email;
+
+import java.util.Map;
+
+/**
+ * An email to deliver: the recipient, subject and the fragment template with the
+ * variables it is rendered with.
+ */
+public record OutgoingEmail(String to, String subject, String template, Map<String, String> variables) {
+
+    public OutgoingEmail {
+        variables = variables != null ? Map.copyOf(variables) : Map.of();
+    }
+}
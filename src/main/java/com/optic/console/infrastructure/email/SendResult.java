@@ -0,0 +1,20 @@
+package com.optic.console.infrastructure.email;
+
+/**
+ * Outcome of one email in a {@link EmailSender#sendAll} batch; {@code error} is null
+ * when the server accepted the message.
+ */
+public record SendResult(OutgoingEmail email, Exception error) {
+
+    public static SendResult success(OutgoingEmail email) {
+        return new SendResult(email, null);
+    }
+
+    public static SendResult failure(OutgoingEmail email, Exception error) {
+        return new SendResult(email, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,184 @@
+package com.optic.console.infrastructure.email;
+
+import com.optic.console.config.SmtpPoolProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a few SMTP connections open so consecutive sends skip the TCP, STARTTLS and
+ * AUTH handshake. At most {@code email.smtp-pool.max-connections} are open at once;
+ * idle ones are checked with a NOOP before reuse and closed by a periodic eviction.
+ */
+@Slf4j
+@Component
+public class SmtpTransportPool implements DisposableBean {
+
+    @FunctionalInterface
+    interface TransportFactory {
+        Transport connect() throws MessagingException;
+    }
+
+    @FunctionalInterface
+    public interface TransportCallback {
+        void doWithTransport(Transport transport) throws MessagingException;
+    }
+
+    private final TransportFactory transportFactory;
+    private final SmtpPoolProperties properties;
+    private final Semaphore permits;
+    // Most recently returned first, so a quiet period leaves the surplus idle long enough to be evicted.
+    private final Deque<PooledTransport> idle = new ConcurrentLinkedDeque<>();
+    private final Counter opened;
+
+    public SmtpTransportPool(JavaMailSender mailSender, SmtpPoolProperties properties, MeterRegistry meterRegistry) {
+        this(mailSender instanceof JavaMailSenderImpl impl && properties.isEnabled() ? () -> connect(impl) : null,
+                properties, meterRegistry);
+    }
+
+    SmtpTransportPool(TransportFactory transportFactory, SmtpPoolProperties properties, MeterRegistry meterRegistry) {
+        this.transportFactory = transportFactory;
+        this.properties = properties;
+        this.permits = new Semaphore(Math.max(1, properties.getMaxConnections()));
+        this.opened = Counter.builder("email.smtp.pool.connections.opened")
+                .description("SMTP connections opened by the pool")
+                .register(meterRegistry);
+        Gauge.builder("email.smtp.pool.idle", idle, Deque::size)
+                .description("Open SMTP connections waiting to be reused")
+                .register(meterRegistry);
+    }
+
+    private static Transport connect(JavaMailSenderImpl mailSender) throws MessagingException {
+        Transport transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+        transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        return transport;
+    }
+
+    public boolean isEnabled() {
+        return transportFactory != null;
+    }
+
+    /**
+     * Runs the callback with a connected transport. The transport goes back to the
+     * pool when the callback completes and is closed when it throws, since the
+     * connection state is then unknown.
+     */
+    public void execute(TransportCallback callback) throws MessagingException {
+        if (!isEnabled()) {
+            throw new IllegalStateException("SMTP connection pooling is disabled");
+        }
+
+        acquirePermit();
+        PooledTransport pooled = null;
+        try {
+            pooled = borrow();
+            callback.doWithTransport(pooled.transport);
+            pooled.lastUsedAt = System.nanoTime();
+            idle.push(pooled);
+            pooled = null;
+        } finally {
+            if (pooled != null) {
+                close(pooled);
+            }
+            permits.release();
+        }
+    }
+
+    /**
+     * Closes connections that have been idle past {@code idle-timeout} or open past
+     * {@code max-lifetime}.
+     */
+    @Scheduled(fixedDelayString = "${email.smtp-pool.eviction-interval:PT15S}")
+    public void evictIdle() {
+        Iterator<PooledTransport> iterator = idle.iterator();
+        while (iterator.hasNext()) {
+            PooledTransport pooled = iterator.next();
+            if (isExpired(pooled) && idle.removeFirstOccurrence(pooled)) {
+                close(pooled);
+            }
+        }
+    }
+
+    int idleCount() {
+        return idle.size();
+    }
+
+    private void acquirePermit() throws MessagingException {
+        try {
+            if (!permits.tryAcquire(properties.getBorrowTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new MessagingException("Timed out waiting for a free SMTP connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted while waiting for an SMTP connection", e);
+        }
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+        PooledTransport pooled;
+        while ((pooled = idle.poll()) != null) {
+            if (!isExpired(pooled) && isHealthy(pooled)) {
+                return pooled;
+            }
+            close(pooled);
+        }
+
+        PooledTransport created = new PooledTransport(transportFactory.connect());
+        opened.increment();
+        return created;
+    }
+
+    private boolean isExpired(PooledTransport pooled) {
+        long now = System.nanoTime();
+        return now - pooled.lastUsedAt > properties.getIdleTimeout().toNanos()
+                || now - pooled.createdAt > properties.getMaxLifetime().toNanos();
+    }
+
+    private boolean isHealthy(PooledTransport pooled) {
+        if (System.nanoTime() - pooled.lastUsedAt < properties.getValidateAfterIdle().toNanos()) {
+            return true;
+        }
+        // For SMTP, isConnected() sends a NOOP and reports whether the server answered.
+        return pooled.transport.isConnected();
+    }
+
+    private static void close(PooledTransport pooled) {
+        try {
+            pooled.transport.close();
+        } catch (MessagingException e) {
+            log.debug("Error closing SMTP connection: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        PooledTransport pooled;
+        while ((pooled = idle.poll()) != null) {
+            close(pooled);
+        }
+    }
+
+    private static final class PooledTransport {
+        private final Transport transport;
+        private final long createdAt = System.nanoTime();
+        private volatile long lastUsedAt = createdAt;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+    }
+}
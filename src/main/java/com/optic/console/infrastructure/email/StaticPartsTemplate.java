@@ -0,0 +1,84 @@
+package com.optic.console.infrastructure.email;
+
+import org.unbescape.html.HtmlEscape;
+import org.unbescape.html.HtmlEscapeLevel;
+import org.unbescape.html.HtmlEscapeType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A rendered email split into its static text and the positions of the variables.
+ * Rendering for a recipient only appends the static parts and the HTML-escaped
+ * variable values, the same escaping Thymeleaf applies to {@code th:text} and
+ * attribute values.
+ */
+final class StaticPartsTemplate {
+
+    private final String[] parts;
+    private final String[] variables;
+    private final int staticLength;
+
+    private StaticPartsTemplate(List<String> parts, List<String> variables) {
+        this.parts = parts.toArray(String[]::new);
+        this.variables = variables.toArray(String[]::new);
+        this.staticLength = parts.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Renders the template once with a unique placeholder per variable and splits
+     * the output on those placeholders. Returns null when a placeholder was altered
+     * or dropped in a way that makes splicing unsafe (e.g. used in a condition).
+     */
+    static StaticPartsTemplate compile(List<String> variableNames, Function<Map<String, String>, String> renderer) {
+        String nonce = UUID.randomUUID().toString().replace("-", "");
+        Map<String, String> placeholders = new HashMap<>();
+        for (int i = 0; i < variableNames.size(); i++) {
+            placeholders.put(variableNames.get(i), "OPTICVAR" + nonce + "I" + i + "X");
+        }
+
+        String rendered = renderer.apply(placeholders);
+        Matcher matcher = Pattern.compile("OPTICVAR" + nonce + "I(\\d+)X").matcher(rendered);
+
+        List<String> parts = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        int last = 0;
+        while (matcher.find()) {
+            parts.add(rendered.substring(last, matcher.start()));
+            slots.add(variableNames.get(Integer.parseInt(matcher.group(1))));
+            last = matcher.end();
+        }
+        parts.add(rendered.substring(last));
+
+        if (parts.stream().anyMatch(part -> part.contains("OPTICVAR" + nonce))) {
+            // A placeholder was transformed on its way into the output.
+            return null;
+        }
+
+        return new StaticPartsTemplate(parts, slots);
+    }
+
+    String render(Map<String, String> values) {
+        StringBuilder html = new StringBuilder(staticLength + 64 * variables.length);
+        for (int i = 0; i < variables.length; i++) {
+            html.append(parts[i]);
+            String value = values.get(variables[i]);
+            if (value != null) {
+                html.append(escape(value));
+            }
+        }
+        return html.append(parts[parts.length - 1]).toString();
+    }
+
+    private static String escape(String value) {
+        return HtmlEscape.escapeHtml(value,
+                HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+}
@@ -0,0 +1,22 @@
+package com.optic.console.infrastructure.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a bounded resource is saturated and the caller should retry later.
+ */
+@Getter
+public class ServiceOverloadedException extends ApiException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, HttpStatus status, long retryAfterSeconds) {
+        super(message, status);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        this(message, HttpStatus.SERVICE_UNAVAILABLE, retryAfterSeconds);
+    }
+}
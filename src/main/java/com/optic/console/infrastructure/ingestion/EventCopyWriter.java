@@ -0,0 +1,79 @@
+package com.optic.console.infrastructure.ingestion;
+
+import com.optic.console.domain.ingestion.CapturedEvent;
+import org.postgresql.PGConnection;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Writes a batch of events with a single {@code COPY ... FROM STDIN} in CSV format: one
+ * round trip and one commit per batch, none of the per-row statement overhead of inserts.
+ */
+@Component
+public class EventCopyWriter {
+
+    static final String COPY_SQL = "COPY events (project_id, uuid, event, distinct_id, properties, timestamp, received_at) "
+            + "FROM STDIN WITH (FORMAT csv)";
+
+    private static final int ESTIMATED_ROW_LENGTH = 256;
+
+    private final DataSource dataSource;
+
+    public EventCopyWriter(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Returns the number of rows written. The batch is committed when this returns.
+     */
+    public long write(List<CapturedEvent> events) throws SQLException, IOException {
+        StringBuilder csv = new StringBuilder(events.size() * ESTIMATED_ROW_LENGTH);
+        encode(events, csv);
+        byte[] rows = csv.toString().getBytes(StandardCharsets.UTF_8);
+
+        try (Connection connection = dataSource.getConnection()) {
+            long written = connection.unwrap(PGConnection.class)
+                    .getCopyAPI()
+                    .copyIn(COPY_SQL, new ByteArrayInputStream(rows));
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+            return written;
+        }
+    }
+
+    static void encode(List<CapturedEvent> events, StringBuilder out) {
+        for (CapturedEvent event : events) {
+            out.append(event.projectId()).append(',')
+                    .append(event.uuid()).append(',');
+            quoted(event.event(), out).append(',');
+            quoted(event.distinctId(), out).append(',');
+            // An unquoted empty field is NULL in CSV format.
+            if (event.properties() != null) {
+                quoted(event.properties(), out);
+            }
+            out.append(',')
+                    .append(event.timestamp()).append(',')
+                    .append(event.receivedAt()).append('\n');
+        }
+    }
+
+    private static StringBuilder quoted(String value, StringBuilder out) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        return out.append('"');
+    }
+}
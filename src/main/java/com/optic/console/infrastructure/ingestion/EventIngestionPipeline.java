@@ -0,0 +1,194 @@
+package com.optic.console.infrastructure.ingestion;
+
+import com.optic.console.config.IngestionProperties;
+import com.optic.console.domain.ingestion.CapturedEvent;
+import com.optic.console.infrastructure.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves captured events from the request threads to the database. Requests put their
+ * events into a bounded {@link EventRingBuffer} and get a receipt; writer threads take
+ * batches of up to {@code ingestion.events.batch-size} events, or whatever arrived
+ * within {@code flush-interval} of the first one, write each batch with one COPY and
+ * then complete the receipts. With several writers, one batch is filled while another
+ * is being written. A batch rejected for one bad row is split until the row is isolated.
+ */
+@Slf4j
+@Component
+public class EventIngestionPipeline implements DisposableBean {
+
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long SHUTDOWN_WAIT_MILLIS = 10_000;
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final EventRingBuffer buffer;
+    private final EventCopyWriter writer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final List<Thread> writerThreads = new ArrayList<>();
+    private volatile boolean running = true;
+
+    private final Counter accepted;
+    private final Counter rejected;
+    private final Counter failed;
+    private final Timer flushTime;
+
+    public EventIngestionPipeline(EventCopyWriter writer, IngestionProperties properties, MeterRegistry meterRegistry) {
+        this.writer = writer;
+        this.buffer = new EventRingBuffer(properties.getBufferCapacity());
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.flushIntervalNanos = properties.getFlushInterval().toNanos();
+
+        this.accepted = eventCounter(meterRegistry, "accepted");
+        this.rejected = eventCounter(meterRegistry, "rejected");
+        this.failed = eventCounter(meterRegistry, "failed");
+        this.flushTime = Timer.builder("ingestion.flush.duration")
+                .description("Time to write one batch of events with COPY")
+                .register(meterRegistry);
+        Gauge.builder("ingestion.buffer.size", buffer, EventRingBuffer::size)
+                .description("Events waiting to be written")
+                .register(meterRegistry);
+
+        // Platform threads: few, long-lived, and mostly blocked on the COPY round trip.
+        for (int i = 1; i <= Math.max(1, properties.getWriters()); i++) {
+            Thread thread = new Thread(this::runWriter, "event-writer-" + i);
+            thread.setDaemon(true);
+            writerThreads.add(thread);
+            thread.start();
+        }
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("ingestion.events")
+                .description("Captured events by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Enqueues all of a request's events or none of them.
+     *
+     * @throws ServiceOverloadedException 429 when the buffer cannot take them, 503 while shutting down
+     */
+    public IngestionReceipt enqueue(List<CapturedEvent> events) {
+        if (!running) {
+            throw new ServiceOverloadedException("Event ingestion is shutting down", RETRY_AFTER_SECONDS);
+        }
+        IngestionReceipt receipt = new IngestionReceipt(events.size());
+        if (!buffer.offerAll(events, receipt)) {
+            rejected.increment(events.size());
+            throw new ServiceOverloadedException("Too many events in flight, retry shortly",
+                    HttpStatus.TOO_MANY_REQUESTS, RETRY_AFTER_SECONDS);
+        }
+        accepted.increment(events.size());
+        return receipt;
+    }
+
+    private void runWriter() {
+        List<CapturedEvent> events = new ArrayList<>(batchSize);
+        List<IngestionReceipt> receipts = new ArrayList<>(batchSize);
+        while (running || buffer.size() > 0) {
+            try {
+                fill(events, receipts);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Event writer interrupted with {} events in hand", events.size());
+            }
+            if (!events.isEmpty()) {
+                flush(events, receipts);
+                events.clear();
+                receipts.clear();
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+
+    private void fill(List<CapturedEvent> events, List<IngestionReceipt> receipts) throws InterruptedException {
+        if (buffer.drainTo(events, receipts, batchSize, IDLE_WAIT_NANOS) == 0) {
+            return;
+        }
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (events.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || buffer.drainTo(events, receipts, batchSize - events.size(), remaining) == 0) {
+                return;
+            }
+        }
+    }
+
+    void flush(List<CapturedEvent> events, List<IngestionReceipt> receipts) {
+        long start = System.nanoTime();
+        try {
+            write(events, receipts);
+        } finally {
+            flushTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Writes a batch and settles its receipts. When Postgres rejects a row's data, the
+     * batch is split in half and each half written again, so only the receipts of the
+     * offending events fail rather than every request sharing the batch. Other errors
+     * (connection, timeout) fail the whole batch straight away.
+     */
+    private void write(List<CapturedEvent> events, List<IngestionReceipt> receipts) {
+        try {
+            writer.write(events);
+        } catch (Exception e) {
+            if (events.size() > 1 && isDataError(e)) {
+                int half = events.size() / 2;
+                write(events.subList(0, half), receipts.subList(0, half));
+                write(events.subList(half, events.size()), receipts.subList(half, receipts.size()));
+                return;
+            }
+            failed.increment(events.size());
+            log.error("Could not write {} events: {}", events.size(), e.getMessage());
+            receipts.forEach(receipt -> receipt.failed(e));
+            return;
+        }
+        receipts.forEach(IngestionReceipt::committed);
+    }
+
+    /**
+     * SQLSTATE class 22 (data exception) or 23 (integrity constraint violation): the
+     * rows are at fault, not the connection.
+     */
+    private static boolean isDataError(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && sql.getSQLState() != null
+                    && (sql.getSQLState().startsWith("22") || sql.getSQLState().startsWith("23"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Stops taking events and lets the writers empty the buffer before the pool closes.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        long deadline = System.currentTimeMillis() + SHUTDOWN_WAIT_MILLIS;
+        for (Thread thread : writerThreads) {
+            thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+        }
+        if (buffer.size() > 0) {
+            log.warn("Shut down with {} events not written", buffer.size());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.optic.console.infrastructure.ingestion;
+
+import com.optic.console.domain.ingestion.CapturedEvent;
+
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed-size ring of events waiting to be written, each with its request's receipt.
+ * A request's events go in all together or not at all, so a full buffer never leaves
+ * a request half enqueued. Guarded by a {@link ReentrantLock} rather than a monitor so
+ * waiting virtual threads do not pin their carrier.
+ */
+final class EventRingBuffer {
+
+    private final CapturedEvent[] events;
+    private final IngestionReceipt[] receipts;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private int head;
+    private int size;
+
+    EventRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.events = new CapturedEvent[capacity];
+        this.receipts = new IngestionReceipt[capacity];
+    }
+
+    /**
+     * Returns false, enqueuing nothing, when the events do not all fit.
+     */
+    boolean offerAll(List<CapturedEvent> batch, IngestionReceipt receipt) {
+        lock.lock();
+        try {
+            if (batch.size() > events.length - size) {
+                return false;
+            }
+            int tail = (head + size) % events.length;
+            for (CapturedEvent event : batch) {
+                events[tail] = event;
+                receipts[tail] = receipt;
+                tail = tail + 1 == events.length ? 0 : tail + 1;
+            }
+            size += batch.size();
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves up to {@code max} events into the lists, waiting up to {@code timeoutNanos}
+     * for the first one. Returns the number moved.
+     */
+    int drainTo(List<CapturedEvent> eventsOut, List<IngestionReceipt> receiptsOut, int max, long timeoutNanos)
+            throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = timeoutNanos;
+            while (size == 0) {
+                if (remaining <= 0) {
+                    return 0;
+                }
+                remaining = notEmpty.awaitNanos(remaining);
+            }
+            int count = Math.min(max, size);
+            for (int i = 0; i < count; i++) {
+                eventsOut.add(events[head]);
+                receiptsOut.add(receipts[head]);
+                events[head] = null;
+                receipts[head] = null;
+                head = head + 1 == events.length ? 0 : head + 1;
+            }
+            size -= count;
+            if (size > 0) {
+                // Another writer can take the rest.
+                notEmpty.signal();
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int capacity() {
+        return events.length;
+    }
+}
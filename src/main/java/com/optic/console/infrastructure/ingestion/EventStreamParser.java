@@ -0,0 +1,246 @@
+package com.optic.console.infrastructure.ingestion;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.exc.InputCoercionException;
+import com.optic.console.config.IngestionProperties;
+import com.optic.console.domain.ingestion.CapturedEvent;
+import com.optic.console.domain.ingestion.exception.InvalidEventException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.ZipException;
+
+/**
+ * Reads SDK request bodies token by token, validating each event as it goes, so a body
+ * is never bound to a tree or DTO first. A single capture is one event object; a batch
+ * is an array of them or {@code {"batch": [...]}}. Event fields: {@code event} and
+ * {@code distinct_id} (required), {@code timestamp} (ISO-8601 or epoch millis, within
+ * {@code ingestion.events.max-timestamp-skew} of the receive time), {@code uuid} and
+ * {@code properties} (an object, kept as JSON text). Other fields are skipped. Any
+ * invalid event rejects the whole request.
+ */
+@Component
+public class EventStreamParser {
+
+    static final int MAX_NAME_LENGTH = 200;
+    private static final int MAX_NESTING_DEPTH = 32;
+
+    private final JsonFactory jsonFactory;
+    private final int maxBatchEvents;
+    private final Duration maxTimestampSkew;
+
+    public EventStreamParser(IngestionProperties properties) {
+        this.jsonFactory = JsonFactory.builder()
+                .streamReadConstraints(StreamReadConstraints.builder()
+                        .maxDocumentLength(properties.getMaxRequestBytes())
+                        .maxNestingDepth(MAX_NESTING_DEPTH)
+                        .build())
+                .build();
+        this.maxBatchEvents = properties.getMaxBatchEvents();
+        this.maxTimestampSkew = properties.getMaxTimestampSkew();
+    }
+
+    public CapturedEvent parseOne(InputStream body, long projectId, Instant receivedAt) {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new InvalidEventException("Expected an event object");
+            }
+            CapturedEvent event = readEvent(parser, projectId, receivedAt, 0);
+            requireEnd(parser);
+            return event;
+        } catch (JsonProcessingException | ZipException e) {
+            throw malformed(e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public List<CapturedEvent> parseBatch(InputStream body, long projectId, Instant receivedAt) {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            JsonToken root = parser.nextToken();
+            List<CapturedEvent> events = null;
+            if (root == JsonToken.START_ARRAY) {
+                events = readEvents(parser, projectId, receivedAt);
+            } else if (root == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("batch".equals(field) && value == JsonToken.START_ARRAY) {
+                        events = readEvents(parser, projectId, receivedAt);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+            if (events == null) {
+                throw new InvalidEventException("Expected an array of events or a 'batch' array");
+            }
+            requireEnd(parser);
+            return events;
+        } catch (JsonProcessingException | ZipException e) {
+            throw malformed(e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<CapturedEvent> readEvents(JsonParser parser, long projectId, Instant receivedAt) throws IOException {
+        List<CapturedEvent> events = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                throw new InvalidEventException("Event " + events.size() + ": expected an object");
+            }
+            if (events.size() == maxBatchEvents) {
+                throw new InvalidEventException("A batch holds at most " + maxBatchEvents + " events");
+            }
+            events.add(readEvent(parser, projectId, receivedAt, events.size()));
+        }
+        return events;
+    }
+
+    private CapturedEvent readEvent(JsonParser parser, long projectId, Instant receivedAt, int index) throws IOException {
+        String event = null;
+        String distinctId = null;
+        String properties = null;
+        Instant timestamp = null;
+        UUID uuid = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "event" -> event = name(parser, value, field, index);
+                case "distinct_id" -> distinctId = name(parser, value, field, index);
+                case "timestamp" -> timestamp = timestamp(parser, value, receivedAt, index);
+                case "uuid" -> uuid = uuid(parser, value, index);
+                case "properties" -> properties = properties(parser, value, index);
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (event == null) {
+            throw invalid(index, "event is required");
+        }
+        if (distinctId == null) {
+            throw invalid(index, "distinct_id is required");
+        }
+        return new CapturedEvent(projectId,
+                uuid != null ? uuid : UUID.randomUUID(),
+                event,
+                distinctId,
+                properties,
+                timestamp != null ? timestamp : receivedAt,
+                receivedAt);
+    }
+
+    /**
+     * Event names and distinct ids: non-blank text (numbers are taken as text), no NUL
+     * characters, which Postgres cannot store and which would fail the whole COPY.
+     */
+    private static String name(JsonParser parser, JsonToken value, String field, int index) throws IOException {
+        if (value != JsonToken.VALUE_STRING && value != JsonToken.VALUE_NUMBER_INT) {
+            throw invalid(index, field + " must be a string");
+        }
+        String text = parser.getText();
+        if (text.isBlank() || text.length() > MAX_NAME_LENGTH || text.indexOf('\u0000') >= 0) {
+            throw invalid(index, field + " must be 1-" + MAX_NAME_LENGTH + " characters");
+        }
+        return text;
+    }
+
+    /**
+     * Timestamps far from the receive time are rejected here: Postgres cannot store
+     * every {@link Instant}, and one out-of-range value would fail the COPY of a whole batch.
+     */
+    private Instant timestamp(JsonParser parser, JsonToken value, Instant receivedAt, int index) throws IOException {
+        Instant timestamp;
+        try {
+            timestamp = switch (value) {
+                case VALUE_NULL -> null;
+                case VALUE_NUMBER_INT -> Instant.ofEpochMilli(parser.getLongValue());
+                case VALUE_STRING -> Instant.parse(parser.getText());
+                default -> throw invalid(index, "timestamp must be an ISO-8601 string or epoch milliseconds");
+            };
+        } catch (DateTimeException | InputCoercionException e) {
+            throw invalid(index, "timestamp must be an ISO-8601 string or epoch milliseconds");
+        }
+        if (timestamp != null && (timestamp.isBefore(receivedAt.minus(maxTimestampSkew))
+                || timestamp.isAfter(receivedAt.plus(maxTimestampSkew)))) {
+            throw invalid(index, "timestamp must be within " + maxTimestampSkew.toDays() + " days of the current time");
+        }
+        return timestamp;
+    }
+
+    private static UUID uuid(JsonParser parser, JsonToken value, int index) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        try {
+            if (value == JsonToken.VALUE_STRING) {
+                return UUID.fromString(parser.getText());
+            }
+        } catch (IllegalArgumentException e) {
+            // fall through
+        }
+        throw invalid(index, "uuid must be a UUID string");
+    }
+
+    private String properties(JsonParser parser, JsonToken value, int index) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (value != JsonToken.START_OBJECT) {
+            throw invalid(index, "properties must be an object");
+        }
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = jsonFactory.createGenerator(json)) {
+            // Copied token by token: jsonb rejects NUL in any key or string value, and
+            // the decoded text is the only place a NUL can be told from an escaped "\\u0000".
+            int depth = 0;
+            JsonToken token = value;
+            do {
+                if ((token == JsonToken.FIELD_NAME || token == JsonToken.VALUE_STRING)
+                        && parser.getText().indexOf('\u0000') >= 0) {
+                    throw invalid(index, "properties must not contain NUL characters");
+                }
+                generator.copyCurrentEvent(parser);
+                if (token.isStructStart()) {
+                    depth++;
+                } else if (token.isStructEnd()) {
+                    depth--;
+                }
+            } while (depth > 0 && (token = parser.nextToken()) != null);
+        }
+        return json.toString();
+    }
+
+    private static void requireEnd(JsonParser parser) throws IOException {
+        if (parser.nextToken() != null) {
+            throw new InvalidEventException("Unexpected content after the event data");
+        }
+    }
+
+    private static InvalidEventException invalid(int index, String message) {
+        return new InvalidEventException("Event " + index + ": " + message);
+    }
+
+    private static InvalidEventException malformed(IOException e) {
+        String detail = e instanceof JsonProcessingException json ? json.getOriginalMessage() : e.getMessage();
+        return new InvalidEventException("Malformed request body: " + detail);
+    }
+}
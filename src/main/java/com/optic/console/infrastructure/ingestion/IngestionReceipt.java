@@ -0,0 +1,35 @@
+package com.optic.console.infrastructure.ingestion;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Completes once every event of one request has been committed, or fails with the
+ * first failed write. A request's events may be split across batches.
+ */
+public final class IngestionReceipt {
+
+    private final AtomicInteger pending;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    IngestionReceipt(int events) {
+        this.pending = new AtomicInteger(events);
+        if (events == 0) {
+            completion.complete(null);
+        }
+    }
+
+    public CompletableFuture<Void> completion() {
+        return completion;
+    }
+
+    void committed() {
+        if (pending.decrementAndGet() == 0) {
+            completion.complete(null);
+        }
+    }
+
+    void failed(Throwable cause) {
+        completion.completeExceptionally(cause);
+    }
+}
@@ -0,0 +1,52 @@
+package com.optic.console.infrastructure.persistence;
+
+import com.optic.console.config.DataSourceMetricsProperties;
+import com.optic.console.config.SlowQueryLogProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's DataSource in a {@link SlowQueryLoggingDataSource} and an
+ * {@link InstrumentedDataSource}. Hikari's own pool metrics still see the pool, as Boot
+ * unwraps delegating data sources.
+ */
+@Component
+public class DataSourceInstrumentationPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<DataSourceMetricsProperties> properties;
+    private final ObjectProvider<SlowQueryLogProperties> slowQueryProperties;
+
+    public DataSourceInstrumentationPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                  ObjectProvider<DataSourceMetricsProperties> properties,
+                                                  ObjectProvider<SlowQueryLogProperties> slowQueryProperties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.slowQueryProperties = slowQueryProperties;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource
+                && !(bean instanceof InstrumentedDataSource)
+                && !(bean instanceof SlowQueryLoggingDataSource)) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+
+            SlowQueryLogProperties slowQueries = slowQueryProperties.getIfAvailable(SlowQueryLogProperties::new);
+            if (slowQueries.isEnabled()) {
+                dataSource = new SlowQueryLoggingDataSource(dataSource, slowQueries, registry);
+            }
+
+            DataSourceMetricsProperties settings = properties.getIfAvailable(DataSourceMetricsProperties::new);
+            if (settings.isEnabled() && registry != null) {
+                dataSource = new InstrumentedDataSource(dataSource, registry);
+            }
+            return dataSource;
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,115 @@
+package com.optic.console.infrastructure.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Times connection checkout and checkout-to-close per controller method. The endpoint
+ * is the handler method of the current request ({@code AuthController.login});
+ * connections taken before a handler is chosen (security filters) are tagged
+ * {@code filter}, those taken outside a request {@code background}.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    static final String ENDPOINT_FILTER = "filter";
+    static final String ENDPOINT_BACKGROUND = "background";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timers> timers = new ConcurrentHashMap<>();
+
+    public InstrumentedDataSource(DataSource target, MeterRegistry meterRegistry) {
+        super(target);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Timers endpointTimers = timersFor(currentEndpoint());
+        long start = System.nanoTime();
+        Connection connection = super.getConnection();
+        return instrument(connection, endpointTimers, start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Timers endpointTimers = timersFor(currentEndpoint());
+        long start = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        return instrument(connection, endpointTimers, start);
+    }
+
+    private Connection instrument(Connection connection, Timers endpointTimers, long start) {
+        long acquired = System.nanoTime();
+        endpointTimers.acquire().record(acquired - start, TimeUnit.NANOSECONDS);
+
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                        endpointTimers.hold().record(System.nanoTime() - acquired, TimeUnit.NANOSECONDS);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private Timers timersFor(String endpoint) {
+        return timers.computeIfAbsent(endpoint, this::register);
+    }
+
+    private Timers register(String endpoint) {
+        return new Timers(
+                Timer.builder("db.connection.acquire")
+                        .description("Time spent waiting for a pooled JDBC connection")
+                        .tag("endpoint", endpoint)
+                        .register(meterRegistry),
+                Timer.builder("db.connection.hold")
+                        .description("Time a JDBC connection was held, from checkout to close")
+                        .tag("endpoint", endpoint)
+                        .register(meterRegistry));
+    }
+
+    static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return ENDPOINT_BACKGROUND;
+        }
+        Object handler = attributes.getAttribute(
+                HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return ENDPOINT_FILTER;
+    }
+
+    private record Timers(Timer acquire, Timer hold) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.optic.console.infrastructure.persistence;
+
+import com.optic.console.config.SlowQueryLogProperties;
+import com.optic.console.infrastructure.diagnostics.RequestCorrelationFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Times every statement execution and writes the ones slower than
+ * {@code diagnostics.slow-query.threshold} to the {@code sql.slow} logger as a single
+ * key=value line: duration, endpoint, request id, SQL and bind parameters (types only
+ * unless redaction is turned off). Fast statements cost two {@code nanoTime} calls and
+ * no logging.
+ */
+public class SlowQueryLoggingDataSource extends DelegatingDataSource {
+
+    static final String LOGGER_NAME = "sql.slow";
+
+    private static final Logger log = LoggerFactory.getLogger(LOGGER_NAME);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_PARAMETER_LENGTH = 64;
+
+    private final SlowQueryLogProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final long thresholdNanos;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public SlowQueryLoggingDataSource(DataSource target, SlowQueryLogProperties properties, MeterRegistry meterRegistry) {
+        super(target);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.thresholdNanos = properties.getThreshold().toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement && method.getName().startsWith("prepare")) {
+                return wrapStatement(method.getReturnType(), statement, (String) args[0]);
+            }
+            if (result instanceof Statement statement && "createStatement".equals(method.getName())) {
+                return wrapStatement(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    private Object wrapStatement(Class<?> type, Statement statement, String preparedSql) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return proxy(type, statement, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, "setNull".equals(name) ? null : args[1]);
+            } else if ("clearParameters".equals(name)) {
+                parameters.clear();
+            } else if (name.startsWith("execute")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                long start = System.nanoTime();
+                try {
+                    return invoke(statement, method, args);
+                } finally {
+                    long elapsed = System.nanoTime() - start;
+                    if (elapsed >= thresholdNanos) {
+                        slowStatement(sql, parameters, elapsed, "executeBatch".equals(name));
+                    }
+                }
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private void slowStatement(String sql, Map<Integer, Object> parameters, long elapsedNanos, boolean batch) {
+        String endpoint = InstrumentedDataSource.currentEndpoint();
+        if (meterRegistry != null) {
+            counters.computeIfAbsent(endpoint, this::counter).increment();
+        }
+        if (!log.isWarnEnabled() || ThreadLocalRandom.current().nextDouble() >= properties.getSampleRate()) {
+            return;
+        }
+        log.warn("slow_query duration_ms={} endpoint={} request_id={} batch={} sql=\"{}\" params={}",
+                elapsedNanos / 1_000_000,
+                endpoint,
+                MDC.get(RequestCorrelationFilter.MDC_KEY),
+                batch,
+                abbreviate(sql),
+                describe(parameters));
+    }
+
+    private Counter counter(String endpoint) {
+        return Counter.builder("db.statement.slow")
+                .description("JDBC statements slower than diagnostics.slow-query.threshold")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+
+    private String abbreviate(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String compact = WHITESPACE.matcher(sql).replaceAll(" ").trim().replace('"', '\'');
+        int max = properties.getMaxSqlLength();
+        return compact.length() > max ? compact.substring(0, max) + "..." : compact;
+    }
+
+    private String describe(Map<Integer, Object> parameters) {
+        StringBuilder out = new StringBuilder("[");
+        for (Map.Entry<Integer, Object> entry : parameters.entrySet()) {
+            if (out.length() > 1) {
+                out.append(", ");
+            }
+            out.append(entry.getKey()).append('=').append(describe(entry.getValue()));
+        }
+        return out.append(']').toString();
+    }
+
+    private String describe(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (properties.isRedactParameters()) {
+            return "<" + value.getClass().getSimpleName() + ">";
+        }
+        String text = value instanceof byte[] bytes ? "bytes(" + bytes.length + ")" : String.valueOf(value);
+        return text.length() > MAX_PARAMETER_LENGTH ? text.substring(0, MAX_PARAMETER_LENGTH) + "..." : text;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(target);
+                default:
+                    return handler.invoke(proxy, method, args);
+            }
+        });
+    }
+}
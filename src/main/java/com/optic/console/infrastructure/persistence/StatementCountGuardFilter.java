@@ -0,0 +1,64 @@
+package com.optic.console.infrastructure.persistence;
+
+import com.optic.console.config.StatementGuardProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Reports requests that run more SQL statements than
+ * {@code diagnostics.statement-guard.max-statements-per-request}, the usual sign of a
+ * lazy association loaded once per row. In tests the request fails instead.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(prefix = "diagnostics.statement-guard", name = "enabled", havingValue = "true")
+public class StatementCountGuardFilter extends OncePerRequestFilter {
+
+    private final StatementCountInspector statementCountInspector;
+    private final StatementGuardProperties properties;
+
+    public StatementCountGuardFilter(StatementCountInspector statementCountInspector,
+                                     StatementGuardProperties properties) {
+        this.statementCountInspector = statementCountInspector;
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        statementCountInspector.begin();
+        int statements;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statements = statementCountInspector.end();
+        }
+
+        if (statements > properties.getMaxStatementsPerRequest()) {
+            String message = String.format("%s %s ran %d SQL statements (limit %d)",
+                    request.getMethod(), request.getRequestURI(), statements, properties.getMaxStatementsPerRequest());
+            if (properties.isFailOnExceed()) {
+                throw new StatementLimitExceededException(message);
+            }
+            log.warn(message);
+        }
+    }
+
+    public static class StatementLimitExceededException extends IllegalStateException {
+        public StatementLimitExceededException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.optic.console.infrastructure.persistence;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Counts the statements Hibernate prepares on the current thread between
+ * {@link #begin()} and {@link #end()}. Threads that have not called begin are not
+ * counted.
+ */
+@Component
+@ConditionalOnProperty(prefix = "diagnostics.statement-guard", name = "enabled", havingValue = "true")
+public class StatementCountInspector implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public void begin() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * Stops counting and returns the number of statements since {@link #begin()}.
+     */
+    public int end() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+}
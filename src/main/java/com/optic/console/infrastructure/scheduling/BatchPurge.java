@@ -0,0 +1,123 @@
+package com.optic.console.infrastructure.scheduling;
+
+import com.optic.console.config.BatchPurgeProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Deletes old rows in small batches, each in its own short transaction, pausing
+ * between batches. Only the instance holding the job lock runs it. A batch is only
+ * started if it can finish, judging by the slowest batch so far, a tenth of the lease
+ * before the lease runs out; otherwise the rest is left for the next run, so a
+ * second instance taking over an expired lock never purges alongside this one.
+ * <p>
+ * Meters are {@code <metricPrefix>.purged}, {@code <metricPrefix>.purge.batches} and
+ * {@code <metricPrefix>.purge.duration}.
+ */
+@Slf4j
+public class BatchPurge {
+
+    /**
+     * Deletes up to {@code batchSize} rows older than {@code cutoff} in its own
+     * transaction and returns how many it deleted.
+     */
+    @FunctionalInterface
+    public interface BatchDelete {
+        int deleteBatch(LocalDateTime cutoff, int batchSize);
+    }
+
+    private final String jobName;
+    private final BatchPurgeProperties properties;
+    private final BatchDelete delete;
+    private final JobLockService jobLockService;
+    private final Counter purged;
+    private final Counter batches;
+    private final Timer duration;
+
+    public BatchPurge(String jobName,
+                      String metricPrefix,
+                      BatchPurgeProperties properties,
+                      BatchDelete delete,
+                      JobLockService jobLockService,
+                      MeterRegistry meterRegistry) {
+        this.jobName = jobName;
+        this.properties = properties;
+        this.delete = delete;
+        this.jobLockService = jobLockService;
+        this.purged = Counter.builder(metricPrefix + ".purged")
+                .description("Rows deleted by the " + jobName + " job")
+                .register(meterRegistry);
+        this.batches = Counter.builder(metricPrefix + ".purge.batches")
+                .description("Delete batches run by the " + jobName + " job")
+                .register(meterRegistry);
+        this.duration = Timer.builder(metricPrefix + ".purge.duration")
+                .description("Wall time of " + jobName + " runs")
+                .register(meterRegistry);
+    }
+
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        // Taken before acquiring, so the local deadline can only fall before the lock's.
+        long leaseEnd = System.nanoTime() + properties.getLockLease().toNanos();
+        if (!jobLockService.tryAcquire(jobName, properties.getLockLease())) {
+            log.debug("Job {} is running on another instance", jobName);
+            return;
+        }
+        try {
+            duration.record(() -> purge(leaseEnd));
+        } finally {
+            jobLockService.release(jobName);
+        }
+    }
+
+    int purge(long leaseEnd) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        int batchSize = Math.max(1, properties.getBatchSize());
+        long margin = properties.getLockLease().toNanos() / 10;
+        long slowestBatch = 0;
+        int total = 0;
+
+        while (true) {
+            long start = System.nanoTime();
+            if (leaseEnd - start - margin - slowestBatch <= 0) {
+                log.info("Job {} stopped short of the lock lease after {} rows; the rest is left for the next run", jobName, total);
+                break;
+            }
+            int deleted = delete.deleteBatch(cutoff, batchSize);
+            slowestBatch = Math.max(slowestBatch, System.nanoTime() - start);
+            batches.increment();
+            purged.increment(deleted);
+            total += deleted;
+
+            if (deleted < batchSize) {
+                break;
+            }
+            if (!pause(properties.getPause())) {
+                break;
+            }
+        }
+
+        log.info("Job {} purged {} rows", jobName, total);
+        return total;
+    }
+
+    private static boolean pause(Duration pause) {
+        if (pause.isZero() || pause.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.optic.console.infrastructure.scheduling;
+
+import com.optic.console.domain.scheduling.ScheduledJobLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Database-backed leases that keep a scheduled job to one instance at a time. A lease
+ * that is not released (the instance died mid-run) lapses on its own.
+ */
+@Slf4j
+@Service
+public class JobLockService {
+
+    private final ScheduledJobLockRepository scheduledJobLockRepository;
+    private final String instanceId;
+
+    public JobLockService(ScheduledJobLockRepository scheduledJobLockRepository) {
+        this.scheduledJobLockRepository = scheduledJobLockRepository;
+        this.instanceId = hostName() + "/" + UUID.randomUUID();
+    }
+
+    public boolean tryAcquire(String jobName, Duration lease) {
+        try {
+            return scheduledJobLockRepository.tryAcquire(jobName, Math.max(1, lease.toSeconds()), instanceId) > 0;
+        } catch (DataAccessException e) {
+            log.warn("Could not acquire lock for job {}", jobName, e);
+            return false;
+        }
+    }
+
+    public void release(String jobName) {
+        try {
+            scheduledJobLockRepository.release(jobName, instanceId);
+        } catch (DataAccessException e) {
+            // The lease runs out on its own.
+            log.warn("Could not release lock for job {}", jobName, e);
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
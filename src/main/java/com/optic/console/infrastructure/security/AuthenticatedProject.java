@@ -0,0 +1,32 @@
+package com.optic.console.infrastructure.security;
+
+import com.optic.console.domain.project.Project;
+
+/**
+ * The project an SDK request authenticated as, resolved from its API key. Carries the
+ * project's compiled origin matcher, so it is cached along with the key.
+ */
+public record AuthenticatedProject(
+        Long projectId,
+        Long workspaceId,
+        boolean enforceOriginCheck,
+        OriginMatcher allowedOrigins
+) {
+
+    public static AuthenticatedProject from(Project project) {
+        return new AuthenticatedProject(
+                project.getId(),
+                project.getWorkspace().getId(),
+                Boolean.TRUE.equals(project.getEnforceOriginCheck()),
+                OriginMatcher.compile(project.getAllowedOrigins())
+        );
+    }
+
+    /**
+     * Whether a request with this {@code Origin} header may write to the project. Calls
+     * without the header (server-side SDKs) are not subject to the origin check.
+     */
+    public boolean allowsOrigin(String origin) {
+        return !enforceOriginCheck || origin == null || allowedOrigins.matches(origin);
+    }
+}
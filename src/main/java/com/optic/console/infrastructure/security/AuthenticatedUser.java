@@ -0,0 +1,90 @@
+package com.optic.console.infrastructure.security;
+
+import com.optic.console.domain.user.User;
+import com.optic.console.domain.user.UserStatus;
+import io.jsonwebtoken.Claims;
+
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The authenticated caller, built from signed JWT claims so that authenticated
+ * requests do not need to load the user row.
+ */
+public record AuthenticatedUser(
+        Long id,
+        String email,
+        UserStatus status,
+        boolean emailVerified,
+        int tokenVersion,
+        String firstName,
+        String lastName
+) implements Principal {
+
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_STATUS = "status";
+    public static final String CLAIM_EMAIL_VERIFIED = "email_verified";
+    public static final String CLAIM_TOKEN_VERSION = "tv";
+    public static final String CLAIM_FIRST_NAME = "given_name";
+    public static final String CLAIM_LAST_NAME = "family_name";
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getEmail(),
+                user.getStatus(),
+                Boolean.TRUE.equals(user.getEmailVerified()),
+                user.getTokenVersion() != null ? user.getTokenVersion() : 0,
+                user.getFirstName() != null ? user.getFirstName() : "",
+                user.getLastName() != null ? user.getLastName() : ""
+        );
+    }
+
+    /**
+     * Returns null when the token predates the embedded user claims.
+     */
+    public static AuthenticatedUser fromClaims(Claims claims) {
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        Number tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Number.class);
+        String status = claims.get(CLAIM_STATUS, String.class);
+
+        if (userId == null || tokenVersion == null || status == null) {
+            return null;
+        }
+
+        return new AuthenticatedUser(
+                userId.longValue(),
+                claims.getSubject(),
+                UserStatus.valueOf(status),
+                Boolean.TRUE.equals(claims.get(CLAIM_EMAIL_VERIFIED, Boolean.class)),
+                tokenVersion.intValue(),
+                valueOrEmpty(claims.get(CLAIM_FIRST_NAME, String.class)),
+                valueOrEmpty(claims.get(CLAIM_LAST_NAME, String.class))
+        );
+    }
+
+    public Map<String, Object> toClaims() {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, id);
+        claims.put(CLAIM_STATUS, status != null ? status.name() : null);
+        claims.put(CLAIM_EMAIL_VERIFIED, emailVerified);
+        claims.put(CLAIM_TOKEN_VERSION, tokenVersion);
+        claims.put(CLAIM_FIRST_NAME, firstName);
+        claims.put(CLAIM_LAST_NAME, lastName);
+        return claims;
+    }
+
+    public AuthenticatedUser withState(UserStatus status, boolean emailVerified) {
+        return new AuthenticatedUser(id, email, status, emailVerified, tokenVersion, firstName, lastName);
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    private static String valueOrEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,83 @@
+package com.optic.console.infrastructure.security;
+
+import com.optic.console.domain.auth.PermissionKey;
+import com.optic.console.domain.workspace.WorkspaceMemberRepository.GrantRow;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A user's memberships at one point in time: for each workspace and project, the role
+ * slug and the role's permission mask. Immutable; checks are a map lookup and a bit test.
+ * Projects are those the user is a direct member of; for them the role in the
+ * project's workspace counts as well.
+ */
+public final class AuthorizationSnapshot {
+
+    public static final AuthorizationSnapshot EMPTY = new AuthorizationSnapshot(Map.of(), Map.of());
+
+    private final Map<Long, Grant> workspaces;
+    private final Map<Long, ProjectGrant> projects;
+
+    private AuthorizationSnapshot(Map<Long, Grant> workspaces, Map<Long, ProjectGrant> projects) {
+        this.workspaces = workspaces;
+        this.projects = projects;
+    }
+
+    public static AuthorizationSnapshot from(Collection<? extends GrantRow> rows) {
+        if (rows.isEmpty()) {
+            return EMPTY;
+        }
+
+        Map<Long, Grant> workspaces = new HashMap<>();
+        Map<Long, ProjectGrant> projects = new HashMap<>();
+        for (GrantRow row : rows) {
+            Grant grant = new Grant(row.getRoleSlug(), row.getPermissionMask() != null ? row.getPermissionMask() : 0L);
+            if (GrantRow.SCOPE_PROJECT.equals(row.getScope())) {
+                projects.merge(row.getTargetId(), new ProjectGrant(row.getWorkspaceId(), grant),
+                        (existing, added) -> new ProjectGrant(existing.workspaceId(), existing.grant().plus(added.grant())));
+            } else {
+                workspaces.merge(row.getTargetId(), grant, Grant::plus);
+            }
+        }
+        return new AuthorizationSnapshot(Map.copyOf(workspaces), Map.copyOf(projects));
+    }
+
+    public Set<Long> workspaceIds() {
+        return workspaces.keySet();
+    }
+
+    public boolean isWorkspaceMember(long workspaceId) {
+        return workspaces.containsKey(workspaceId);
+    }
+
+    public boolean hasWorkspaceRole(long workspaceId, String roleSlug) {
+        Grant grant = workspaces.get(workspaceId);
+        return grant != null && grant.roleSlug().equalsIgnoreCase(roleSlug);
+    }
+
+    public boolean hasWorkspacePermission(long workspaceId, PermissionKey permission) {
+        Grant grant = workspaces.get(workspaceId);
+        return grant != null && permission.isIn(grant.permissionMask());
+    }
+
+    public boolean hasProjectPermission(long projectId, PermissionKey permission) {
+        ProjectGrant project = projects.get(projectId);
+        if (project == null) {
+            return false;
+        }
+        return permission.isIn(project.grant().permissionMask())
+                || hasWorkspacePermission(project.workspaceId(), permission);
+    }
+
+    private record Grant(String roleSlug, long permissionMask) {
+        Grant plus(Grant other) {
+            return new Grant(roleSlug, permissionMask | other.permissionMask);
+        }
+    }
+
+    private record ProjectGrant(Long workspaceId, Grant grant) {
+    }
+}
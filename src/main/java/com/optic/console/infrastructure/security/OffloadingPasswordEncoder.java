@@ -0,0 +1,146 @@
+package com.optic.console.infrastructure.security;
+
+import com.optic.console.config.PasswordHashingProperties;
+import com.optic.console.infrastructure.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs the (deliberately slow) password hash of the wrapped encoder on a dedicated,
+ * size-bounded pool. Callers still wait for the result, but the number of hashes in
+ * flight is capped and excess requests fail fast with a 503 instead of piling up.
+ */
+@Slf4j
+public class OffloadingPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final String OPERATION_ENCODE = "encode";
+    private static final String OPERATION_MATCHES = "matches";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+
+    private final Timer encodeQueueWait;
+    private final Timer encodeHashTime;
+    private final Timer matchesQueueWait;
+    private final Timer matchesHashTime;
+    private final Counter rejections;
+
+    public OffloadingPasswordEncoder(PasswordEncoder delegate,
+                                     PasswordHashingProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.retryAfterSeconds = properties.getRetryAfterSeconds();
+        // Platform threads even in virtual-thread mode: hashing is CPU-bound and the
+        // fixed pool is what caps how many cores it can take from request handling.
+        this.executor = new ThreadPoolExecutor(
+                properties.getPoolSize(),
+                properties.getPoolSize(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeQueueWait = queueWaitTimer(meterRegistry, OPERATION_ENCODE);
+        this.encodeHashTime = hashTimer(meterRegistry, OPERATION_ENCODE);
+        this.matchesQueueWait = queueWaitTimer(meterRegistry, OPERATION_MATCHES);
+        this.matchesHashTime = hashTimer(meterRegistry, OPERATION_MATCHES);
+        this.rejections = Counter.builder("auth.password.hash.rejected")
+                .description("Password hashing requests rejected because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .description("Password hashing requests waiting for a free thread")
+                .register(meterRegistry);
+
+        log.info("Password hashing pool initialized with {} threads and a queue of {}",
+                properties.getPoolSize(), properties.getQueueCapacity());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return offload(encodeQueueWait, encodeHashTime, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return offload(matchesQueueWait, matchesHashTime, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T offload(Timer queueWait, Timer hashTime, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWait.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.get();
+                } finally {
+                    hashTime.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            log.warn("Password hashing queue is full, rejecting request");
+            throw new ServiceOverloadedException(
+                    "The service is busy. Please try again shortly.", retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    private static Timer queueWaitTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.password.hash.queue.wait")
+                .description("Time a password hashing request waited for a free thread")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.password.hash.duration")
+                .description("Time spent computing a password hash")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
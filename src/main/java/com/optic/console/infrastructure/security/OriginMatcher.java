@@ -0,0 +1,174 @@
+package com.optic.console.infrastructure.security;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * A project's {@code allowed_origins} compiled into a trie over the origin read
+ * backwards, so a check walks the {@code Origin} header once, right to left, without
+ * allocating and regardless of how many origins are allowed.
+ * <p>
+ * Entries are {@code scheme://host[:port]}, {@code scheme://*.host[:port]} (any
+ * subdomain depth, not the bare host) or {@code *} (anything). Matching ignores case.
+ * Malformed entries are skipped.
+ */
+@Slf4j
+public final class OriginMatcher {
+
+    public static final OriginMatcher NONE = new OriginMatcher(false, new Node());
+
+    private static final String SCHEME_SEPARATOR = "://";
+
+    private final boolean matchAll;
+    private final Node root;
+
+    private OriginMatcher(boolean matchAll, Node root) {
+        this.matchAll = matchAll;
+        this.root = root;
+    }
+
+    public static OriginMatcher compile(Collection<String> origins) {
+        if (origins == null || origins.isEmpty()) {
+            return NONE;
+        }
+
+        Node root = new Node();
+        boolean matchAll = false;
+        for (String entry : origins) {
+            String origin = normalize(entry);
+            if (origin.isEmpty()) {
+                continue;
+            }
+            if (origin.equals("*")) {
+                matchAll = true;
+                continue;
+            }
+
+            int separator = origin.indexOf(SCHEME_SEPARATOR);
+            int hostStart = separator + SCHEME_SEPARATOR.length();
+            if (separator <= 0 || hostStart >= origin.length()) {
+                log.warn("Ignoring malformed allowed origin '{}'", entry);
+                continue;
+            }
+
+            if (origin.startsWith("*.", hostStart) && origin.indexOf('*', hostStart + 1) < 0 && origin.length() > hostStart + 2) {
+                // Wildcard: the trie holds ".host[:port]"; the scheme is checked when the walk gets there.
+                insert(root, origin, hostStart + 1).addWildcardScheme(origin.substring(0, hostStart));
+            } else if (origin.indexOf('*') < 0) {
+                insert(root, origin, 0).exact = true;
+            } else {
+                log.warn("Ignoring malformed allowed origin '{}'", entry);
+            }
+        }
+        return new OriginMatcher(matchAll, root);
+    }
+
+    public boolean matches(String origin) {
+        if (matchAll) {
+            return origin != null;
+        }
+        if (origin == null || origin.isEmpty()) {
+            return false;
+        }
+
+        Node node = root;
+        for (int i = origin.length() - 1; i >= 0; i--) {
+            if (node.wildcardSchemes != null && isSubdomain(origin, i + 1, node.wildcardSchemes)) {
+                return true;
+            }
+            node = node.child(Character.toLowerCase(origin.charAt(i)));
+            if (node == null) {
+                return false;
+            }
+        }
+        return node.exact;
+    }
+
+    /**
+     * Whether {@code origin[0, suffixStart)} is one of the schemes followed by a
+     * non-empty run of host characters.
+     */
+    private static boolean isSubdomain(String origin, int suffixStart, String[] schemes) {
+        for (String scheme : schemes) {
+            int hostStart = scheme.length();
+            if (suffixStart > hostStart && origin.regionMatches(true, 0, scheme, 0, hostStart)
+                    && isHostLabels(origin, hostStart, suffixStart)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isHostLabels(String origin, int start, int end) {
+        if (origin.charAt(start) == '.' || origin.charAt(end - 1) == '.') {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = origin.charAt(i);
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '.';
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Node insert(Node root, String origin, int from) {
+        Node node = root;
+        for (int i = origin.length() - 1; i >= from; i--) {
+            node = node.childOrAdd(origin.charAt(i));
+        }
+        return node;
+    }
+
+    private static String normalize(String entry) {
+        if (entry == null) {
+            return "";
+        }
+        String origin = entry.trim().toLowerCase(Locale.ROOT);
+        while (origin.endsWith("/")) {
+            origin = origin.substring(0, origin.length() - 1);
+        }
+        return origin;
+    }
+
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private boolean exact;
+        private String[] wildcardSchemes;
+
+        Node child(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node childOrAdd(char key) {
+            Node child = child(key);
+            if (child == null) {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+
+        void addWildcardScheme(String scheme) {
+            if (wildcardSchemes == null) {
+                wildcardSchemes = new String[]{scheme};
+            } else if (!Arrays.asList(wildcardSchemes).contains(scheme)) {
+                wildcardSchemes = Arrays.copyOf(wildcardSchemes, wildcardSchemes.length + 1);
+                wildcardSchemes[wildcardSchemes.length - 1] = scheme;
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.optic.console.infrastructure.security;
+
+import com.optic.console.config.PasswordHashingProperties;
+import com.optic.console.config.PasswordHashingProperties.PasswordHashAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds the delegating encoder used for user passwords. New hashes are stored as
+ * {@code {id}hash}, so the algorithm (and, for BCrypt, the cost) travels with every
+ * stored value. Hashes written before the prefix existed are plain BCrypt and still
+ * verify; {@link PasswordEncoder#upgradeEncoding(String)} flags them, and anything
+ * hashed with a lower cost or another algorithm, for re-hashing on the next login.
+ */
+@Slf4j
+public final class PasswordEncoderFactory {
+
+    private static final String CALIBRATION_PASSWORD = "calibration-Password-1!";
+    private static final int CALIBRATION_SAMPLES = 3;
+
+    private PasswordEncoderFactory() {
+    }
+
+    public static PasswordEncoder create(PasswordHashingProperties properties) {
+        int bcryptStrength = properties.getBcryptStrength() != null
+                ? properties.getBcryptStrength()
+                : calibrateBcryptStrength(properties.getTargetLatency(),
+                        properties.getMinBcryptStrength(), properties.getMaxBcryptStrength());
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(PasswordHashAlgorithm.BCRYPT.getId(), bcrypt);
+        encoders.put(PasswordHashAlgorithm.PBKDF2.getId(), Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(properties.getAlgorithm().getId(), encoders);
+        // Hashes stored before the {id} prefix was introduced are bare BCrypt strings.
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        log.info("Password encoder initialized: algorithm={}, bcryptStrength={}",
+                properties.getAlgorithm().getId(), bcryptStrength);
+        return delegating;
+    }
+
+    /**
+     * Picks the highest BCrypt cost whose hash time on this host stays within the
+     * target. Each cost step doubles the work, so one measurement at the minimum cost
+     * is enough to extrapolate the rest.
+     */
+    static int calibrateBcryptStrength(Duration targetLatency, int minStrength, int maxStrength) {
+        long baselineNanos = measureBcryptNanos(minStrength);
+        long targetNanos = targetLatency.toNanos();
+
+        int strength = minStrength;
+        long estimatedNanos = baselineNanos;
+        while (strength < maxStrength && estimatedNanos * 2 <= targetNanos) {
+            strength++;
+            estimatedNanos *= 2;
+        }
+
+        log.info("Calibrated BCrypt strength {} (~{} ms per hash, target {} ms)",
+                strength, estimatedNanos / 1_000_000, targetLatency.toMillis());
+        return strength;
+    }
+
+    private static long measureBcryptNanos(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(CALIBRATION_PASSWORD); // warm-up
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -1,18 +1,31 @@
 package com.optic.console.infrastructure.security;
 
 import com.optic.console.config.CorsProperties;
+import com.optic.console.config.PasswordHashingProperties;
+import com.optic.console.infrastructure.security.service.AuthenticatedUserResolver;
+import com.optic.console.infrastructure.security.service.AuthorizationSnapshotService;
+import com.optic.console.infrastructure.security.service.ProjectApiKeyResolver;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -27,15 +40,47 @@ import java.util.List;
 @Slf4j
 public class SecurityConfig {
 
+    /**
+     * SDK event ingestion, authenticated by project API key instead of a user token.
+     */
+    static final String[] INGESTION_PATHS = {"/api/v1/capture", "/api/v1/batch"};
+
     private final CorsProperties corsProperties;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
+
+    /**
+     * Actuator endpoints are served on the management port, which is not exposed
+     * publicly; health and the Prometheus scrape are open there, everything else is denied.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain managementSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher(EndpointRequest.toAnyEndpoint())
+            .csrf(AbstractHttpConfigurer::disable)
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authorizeHttpRequests(auth -> auth
+                .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                .anyRequest().denyAll()
+            )
+            .httpBasic(AbstractHttpConfigurer::disable);
+
+        return http.build();
+    }
 
     @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(AbstractHttpConfigurer::disable)
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/api/v1/**").permitAll()
+                .requestMatchers("/api/v1/auth/me", "/api/v1/auth/logout").authenticated()
+                .requestMatchers("/api/v1/auth/**").permitAll()
+                .requestMatchers(HttpMethod.POST, INGESTION_PATHS).permitAll()
                 .requestMatchers(
                     "/swagger-ui/**",
                     "/swagger-ui.html",
@@ -44,11 +89,31 @@ public class SecurityConfig {
                 ).permitAll()
                 .anyRequest().authenticated()
             )
-            .httpBasic(AbstractHttpConfigurer::disable);
+            .httpBasic(AbstractHttpConfigurer::disable)
+            .addFilterBefore(new JwtAuthenticationFilter(authenticatedUserResolver),
+                    UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
 
+    /**
+     * Lets {@code @PreAuthorize("hasPermission(#id, 'workspace', 'members.manage')")}
+     * check the caller's cached authorization snapshot.
+     */
+    @Bean
+    static MethodSecurityExpressionHandler methodSecurityExpressionHandler(
+            AuthorizationSnapshotService authorizationSnapshotService) {
+        DefaultMethodSecurityExpressionHandler handler = new DefaultMethodSecurityExpressionHandler();
+        handler.setPermissionEvaluator(new SnapshotPermissionEvaluator(authorizationSnapshotService));
+        return handler;
+    }
+
+    /**
+     * Console routes allow the configured origins. SDK ingestion routes answer every
+     * preflight (it carries no API key to look a project up by) and let browsers cache
+     * that answer for {@code cors.ingestion-max-age}; the project's own allowed origins
+     * are enforced on the actual request via {@link AuthenticatedProject#allowsOrigin}.
+     */
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -56,15 +121,28 @@ public class SecurityConfig {
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("Authorization", "Content-Type"));
         configuration.setAllowCredentials(true);
+        configuration.setMaxAge(corsProperties.getMaxAge());
+
+        CorsConfiguration ingestion = new CorsConfiguration();
+        ingestion.setAllowedOriginPatterns(List.of("*"));
+        ingestion.setAllowedMethods(List.of("POST", "OPTIONS"));
+        ingestion.setAllowedHeaders(List.of("Content-Type", "Content-Encoding", ProjectApiKeyResolver.HEADER));
+        ingestion.setAllowCredentials(false);
+        ingestion.setMaxAge(corsProperties.getIngestionMaxAge());
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        for (String path : INGESTION_PATHS) {
+            source.registerCorsConfiguration(path, ingestion);
+        }
         source.registerCorsConfiguration("/api/**", configuration);
         return source;
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties,
+                                           MeterRegistry meterRegistry) {
+        return new OffloadingPasswordEncoder(
+                PasswordEncoderFactory.create(passwordHashingProperties), passwordHashingProperties, meterRegistry);
     }
 
     @Bean
@@ -0,0 +1,54 @@
+package com.optic.console.infrastructure.security;
+
+import com.optic.console.domain.auth.PermissionKey;
+import com.optic.console.infrastructure.security.service.AuthorizationSnapshotService;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.core.Authentication;
+
+import java.io.Serializable;
+
+/**
+ * Backs {@code hasPermission(#workspaceId, 'workspace', 'members.manage')} (and
+ * {@code 'project'}) in method security expressions with the caller's cached
+ * {@link AuthorizationSnapshot}. Permission names are {@link PermissionKey} names; an
+ * unknown name is a programming error and fails the call.
+ */
+public class SnapshotPermissionEvaluator implements PermissionEvaluator {
+
+    public static final String TARGET_WORKSPACE = "workspace";
+    public static final String TARGET_PROJECT = "project";
+
+    private final AuthorizationSnapshotService authorizationSnapshotService;
+
+    public SnapshotPermissionEvaluator(AuthorizationSnapshotService authorizationSnapshotService) {
+        this.authorizationSnapshotService = authorizationSnapshotService;
+    }
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType, Object permission) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)
+                || !(targetId instanceof Number id)) {
+            return false;
+        }
+
+        PermissionKey key = permission instanceof PermissionKey given ? given : PermissionKey.fromName(String.valueOf(permission));
+        if (key == null) {
+            throw new IllegalArgumentException("Unknown permission: " + permission);
+        }
+
+        AuthorizationSnapshot snapshot = authorizationSnapshotService.snapshot(user.id());
+        return switch (targetType) {
+            case TARGET_WORKSPACE -> snapshot.hasWorkspacePermission(id.longValue(), key);
+            case TARGET_PROJECT -> snapshot.hasProjectPermission(id.longValue(), key);
+            default -> false;
+        };
+    }
+
+    /**
+     * Domain objects are not supported; pass the id and target type instead.
+     */
+    @Override
+    public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
+        return false;
+    }
+}
@@ -0,0 +1,139 @@
+package com.optic.console.infrastructure.security.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.optic.console.config.JwtProperties;
+import com.optic.console.domain.user.User;
+import com.optic.console.domain.user.UserRepository;
+import com.optic.console.domain.user.UserStatus;
+import com.optic.console.infrastructure.security.AuthenticatedUser;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Turns a bearer token into an {@link AuthenticatedUser}. Fresh tokens are trusted as
+ * signed; once the embedded claims are older than {@code jwt.claims-max-age} the user
+ * row is consulted (and remembered for the same window) to catch token-version bumps
+ * and status changes.
+ */
+@Slf4j
+@Service
+public class AuthenticatedUserResolver {
+
+    private final JwtService jwtService;
+    private final UserRepository userRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final Cache<Long, Optional<UserState>> userStates;
+    // Bumped by every eviction; a load that raced with one is not cached.
+    private final AtomicLong generation = new AtomicLong();
+
+    public AuthenticatedUserResolver(JwtService jwtService,
+                                     UserRepository userRepository,
+                                     TokenRevocationService tokenRevocationService,
+                                     JwtProperties jwtProperties) {
+        this.jwtService = jwtService;
+        this.userRepository = userRepository;
+        this.tokenRevocationService = tokenRevocationService;
+
+        Duration maxAge = jwtProperties.getClaimsMaxAge() != null
+                ? jwtProperties.getClaimsMaxAge()
+                : Duration.ofMinutes(5);
+        this.userStates = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(maxAge)
+                .build();
+    }
+
+    public Optional<AuthenticatedUser> resolve(String rawToken) {
+        Claims claims;
+        try {
+            claims = jwtService.parseClaims(rawToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Rejected bearer token: {}", e.getMessage());
+            return Optional.empty();
+        }
+
+        if (tokenRevocationService.isRevoked(claims.getId())) {
+            log.debug("Rejected revoked bearer token {}", claims.getId());
+            return Optional.empty();
+        }
+
+        AuthenticatedUser principal = AuthenticatedUser.fromClaims(claims);
+
+        if (principal == null) {
+            // Issued before user claims were embedded; fall back to the user row.
+            return userRepository.findByEmailIgnoreCase(claims.getSubject())
+                    .map(AuthenticatedUser::from)
+                    .filter(AuthenticatedUserResolver::canAuthenticate);
+        }
+
+        if (jwtService.isStale(claims)) {
+            Optional<UserState> state = userState(principal.id());
+            if (state.isEmpty() || state.get().tokenVersion() != principal.tokenVersion()) {
+                return Optional.empty();
+            }
+            principal = principal.withState(state.get().status(), state.get().emailVerified());
+        }
+
+        return Optional.of(principal).filter(AuthenticatedUserResolver::canAuthenticate);
+    }
+
+    /**
+     * Drops the remembered state for a user whose token version or status just changed.
+     * Inside a transaction it is dropped again after commit, since a request resolving
+     * in between would otherwise re-cache the old row for the whole window.
+     */
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        generation.incrementAndGet();
+        userStates.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generation.incrementAndGet();
+                    userStates.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    private Optional<UserState> userState(Long userId) {
+        Optional<UserState> cached = userStates.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        // Loaded outside Cache.get: its compute runs under a map-bin monitor, and a
+        // JDBC call there would pin a virtual thread to its carrier.
+        long loadedAt = generation.get();
+        Optional<UserState> loaded = userRepository.findById(userId).map(UserState::from);
+        if (generation.get() == loadedAt) {
+            userStates.put(userId, loaded);
+        }
+        return loaded;
+    }
+
+    private static boolean canAuthenticate(AuthenticatedUser user) {
+        return user.status() != UserStatus.SUSPENDED && user.status() != UserStatus.INACTIVE;
+    }
+
+    private record UserState(UserStatus status, boolean emailVerified, int tokenVersion) {
+        static UserState from(User user) {
+            return new UserState(
+                    user.getStatus(),
+                    Boolean.TRUE.equals(user.getEmailVerified()),
+                    user.getTokenVersion() != null ? user.getTokenVersion() : 0
+            );
+        }
+    }
+}
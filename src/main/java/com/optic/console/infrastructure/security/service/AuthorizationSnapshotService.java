@@ -0,0 +1,84 @@
+package com.optic.console.infrastructure.security.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.optic.console.config.AuthorizationCacheProperties;
+import com.optic.console.domain.auth.PermissionKey;
+import com.optic.console.domain.workspace.MembershipChangedEvent;
+import com.optic.console.domain.workspace.WorkspaceMemberRepository;
+import com.optic.console.infrastructure.security.AuthorizationSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out per-user {@link AuthorizationSnapshot}s, built with one query and cached
+ * until a {@link MembershipChangedEvent} for the user is committed (or the TTL runs
+ * out). Permission checks against a cached snapshot touch neither JPA nor the pool.
+ */
+@Slf4j
+@Service
+public class AuthorizationSnapshotService {
+
+    private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final Cache<Long, AuthorizationSnapshot> snapshots;
+    // Bumped by every invalidation; a load that raced with one is not cached.
+    private final AtomicLong generation = new AtomicLong();
+
+    public AuthorizationSnapshotService(WorkspaceMemberRepository workspaceMemberRepository,
+                                        AuthorizationCacheProperties properties,
+                                        MeterRegistry meterRegistry) {
+        this.workspaceMemberRepository = workspaceMemberRepository;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "authorization.snapshots");
+    }
+
+    public AuthorizationSnapshot snapshot(Long userId) {
+        if (userId == null) {
+            return AuthorizationSnapshot.EMPTY;
+        }
+        AuthorizationSnapshot cached = snapshots.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Loaded outside Cache.get, as in AuthenticatedUserResolver: no JDBC under a map-bin lock.
+        long loadedAt = generation.get();
+        AuthorizationSnapshot loaded = AuthorizationSnapshot.from(workspaceMemberRepository.findGrantsByUserId(userId));
+        if (generation.get() == loadedAt) {
+            snapshots.put(userId, loaded);
+        }
+        return loaded;
+    }
+
+    public boolean hasWorkspacePermission(Long userId, long workspaceId, PermissionKey permission) {
+        return snapshot(userId).hasWorkspacePermission(workspaceId, permission);
+    }
+
+    public boolean hasProjectPermission(Long userId, long projectId, PermissionKey permission) {
+        return snapshot(userId).hasProjectPermission(projectId, permission);
+    }
+
+    /**
+     * Runs after the membership change commits, or straight away when published
+     * outside a transaction.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        generation.incrementAndGet();
+        if (event.affectsEveryone()) {
+            log.debug("Dropping all authorization snapshots");
+            snapshots.invalidateAll();
+        } else {
+            snapshots.invalidate(event.userId());
+        }
+    }
+}
@@ -1,18 +1,35 @@
 package com.optic.console.infrastructure.security.service;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import javax.crypto.SecretKey;
 
 import org.springframework.stereotype.Service;
 
 import com.optic.console.config.JwtProperties;
+import com.optic.console.domain.user.User;
+import com.optic.console.infrastructure.security.AuthenticatedUser;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -21,8 +38,13 @@ public class JwtService {
     
     private final SecretKey signingKey;
     private final long expirationMillis;
+    private final Duration claimsMaxAge;
+    private final JwtParser parser;
+    private final Cache<String, Claims> verifiedClaims;
+    private final Timer signTimer;
+    private final Timer verifyTimer;
 
-    public JwtService(JwtProperties jwtProperties) {
+    public JwtService(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
         if (jwtProperties == null || jwtProperties.getSecret() == null || jwtProperties.getSecret().trim().isEmpty()) {
             throw new IllegalStateException(
                 "JWT secret is not configured. Set JWT_SECRET environment variable or jwt.secret property. " +
@@ -45,6 +67,23 @@ public class JwtService {
         }
 
         this.signingKey = Keys.hmacShaKeyFor(secretBytes);
+        // JwtParser is immutable and thread-safe, so one instance serves every request.
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.verifiedClaims = createClaimsCache(jwtProperties.getClaimsCache());
+        if (verifiedClaims != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaims, "jwt.claims");
+        }
+        this.signTimer = Timer.builder("auth.jwt.sign.duration")
+                .description("Time spent building and signing an access token")
+                .register(meterRegistry);
+        this.verifyTimer = Timer.builder("auth.jwt.verify.duration")
+                .description("Time spent verifying an access token signature (claims cache misses)")
+                .register(meterRegistry);
+        this.claimsMaxAge = jwtProperties.getClaimsMaxAge() != null
+                ? jwtProperties.getClaimsMaxAge()
+                : Duration.ofMinutes(5);
 
         long expiration;
         String expirationStr = jwtProperties.getExpirationMillis();
@@ -60,12 +99,56 @@ public class JwtService {
         }
         this.expirationMillis = expiration;
         
-        log.info("JWT service initialized with expiration: {} ms ({} hours)", 
-                expirationMillis, expirationMillis / 3600000.0);
+        log.info("JWT service initialized with expiration: {} ms ({} hours), claims cache {}",
+                expirationMillis, expirationMillis / 3600000.0, verifiedClaims != null ? "enabled" : "disabled");
+    }
+
+    private static Cache<String, Claims> createClaimsCache(JwtProperties.ClaimsCache settings) {
+        if (settings == null || !settings.isEnabled()) {
+            return null;
+        }
+
+        return Caffeine.newBuilder()
+                .maximumSize(settings.getMaxSize())
+                .recordStats()
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        Date expiration = claims.getExpiration();
+                        if (expiration == null) {
+                            return 0;
+                        }
+                        long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
 
     public String generateToken(String subject, Boolean rememberMe) {
+        return generateToken(subject, Map.of(), rememberMe);
+    }
+
+    /**
+     * Issues a token carrying the user's id, status, verification flag, token version
+     * and name, so requests can be authenticated without loading the user.
+     */
+    public String generateToken(User user, Boolean rememberMe) {
+        return generateToken(user.getEmail(), AuthenticatedUser.from(user).toClaims(), rememberMe);
+    }
+
+    private String generateToken(String subject, Map<String, Object> claims, Boolean rememberMe) {
         if (subject == null || subject.trim().isEmpty()) {
             throw new IllegalArgumentException("Subject cannot be null or empty");
         }
@@ -78,26 +161,59 @@ public class JwtService {
 
         Date expiration = new Date(now.getTime() + effectiveExpiration);
 
-        return Jwts.builder()
+        return signTimer.record(() -> Jwts.builder()
+                .addClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject.trim())
                 .setIssuedAt(now)
                 .setExpiration(expiration)
                 .signWith(signingKey, SignatureAlgorithm.HS256)
-                .compact();
+                .compact());
+    }
+
+    /**
+     * Whether the user state embedded in these claims is too old to be trusted
+     * without re-checking the database.
+     */
+    public boolean isStale(Claims claims) {
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null || issuedAt.getTime() + claimsMaxAge.toMillis() < System.currentTimeMillis();
     }
 
     public String extractSubject(String token) {
+        return parseClaims(token).getSubject();
+    }
+
+    /**
+     * Verifies the token and returns its claims. Verified claims are cached by token
+     * hash until the token expires, so the returned instance may be shared and must
+     * be treated as read-only.
+     */
+    public Claims parseClaims(String token) {
         if (token == null || token.trim().isEmpty()) {
             throw new IllegalArgumentException("Token cannot be null or empty");
         }
 
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
-                .parseClaimsJws(token.trim())
-                .getBody();
+        String compactToken = token.trim();
+        if (verifiedClaims == null) {
+            return verify(compactToken);
+        }
 
-        return claims.getSubject();
+        return verifiedClaims.get(hash(compactToken), key -> verify(compactToken));
+    }
+
+    private Claims verify(String compactToken) {
+        return verifyTimer.record(() -> parser.parseClaimsJws(compactToken).getBody());
+    }
+
+    private static String hash(String compactToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(compactToken.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 }
 
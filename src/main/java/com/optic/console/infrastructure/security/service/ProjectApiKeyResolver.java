@@ -0,0 +1,100 @@
+package com.optic.console.infrastructure.security.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.optic.console.application.TokenDigest;
+import com.optic.console.config.ProjectApiKeyProperties;
+import com.optic.console.domain.project.ProjectChangedEvent;
+import com.optic.console.domain.project.ProjectRepository;
+import com.optic.console.infrastructure.security.AuthenticatedProject;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolves project API keys for the ingestion path. Keys are looked up by their SHA-256,
+ * and both hits and misses are cached, so a steady stream of SDK calls (valid or not)
+ * does not reach the database. A committed {@link ProjectChangedEvent} drops the
+ * project's entry at once.
+ */
+@Service
+public class ProjectApiKeyResolver {
+
+    /**
+     * Request header SDKs send the project API key in.
+     */
+    public static final String HEADER = "X-Api-Key";
+
+    /**
+     * Longer values are rejected without hashing; issued keys are far shorter.
+     */
+    static final int MAX_KEY_LENGTH = 128;
+
+    private final ProjectRepository projectRepository;
+    private final Cache<String, AuthenticatedProject> projects;
+    private final Cache<String, Boolean> unknownKeys;
+    // Bumped by every invalidation; a load that raced with one is not cached.
+    private final AtomicLong generation = new AtomicLong();
+
+    public ProjectApiKeyResolver(ProjectRepository projectRepository,
+                                 ProjectApiKeyProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.projectRepository = projectRepository;
+        this.projects = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        this.unknownKeys = Caffeine.newBuilder()
+                .maximumSize(properties.getNegativeMaxSize())
+                .expireAfterWrite(properties.getNegativeTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, projects, "ingestion.api_keys");
+        CaffeineCacheMetrics.monitor(meterRegistry, unknownKeys, "ingestion.api_keys.unknown");
+    }
+
+    public Optional<AuthenticatedProject> resolve(String rawKey) {
+        if (rawKey == null || rawKey.isBlank() || rawKey.length() > MAX_KEY_LENGTH) {
+            return Optional.empty();
+        }
+
+        byte[] hash = TokenDigest.sha256(rawKey);
+        String cacheKey = HexFormat.of().formatHex(hash);
+        AuthenticatedProject cached = projects.getIfPresent(cacheKey);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (unknownKeys.getIfPresent(cacheKey) != null) {
+            return Optional.empty();
+        }
+
+        // Loaded outside Cache.get, as in AuthenticatedUserResolver: no JDBC under a map-bin lock.
+        long loadedAt = generation.get();
+        Optional<AuthenticatedProject> loaded = projectRepository.findActiveByApiKeyHash(hash)
+                .map(AuthenticatedProject::from);
+        if (generation.get() == loadedAt) {
+            if (loaded.isPresent()) {
+                projects.put(cacheKey, loaded.get());
+            } else {
+                unknownKeys.put(cacheKey, Boolean.TRUE);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Runs after the project change commits, or straight away when published outside a
+     * transaction. The event does not carry the old key, so entries are matched by project.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        generation.incrementAndGet();
+        projects.asMap().values().removeIf(project -> project.projectId().equals(event.projectId()));
+    }
+}
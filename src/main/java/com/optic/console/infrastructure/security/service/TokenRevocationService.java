@@ -0,0 +1,167 @@
+package com.optic.console.infrastructure.security.service;
+
+import com.optic.console.config.JwtProperties;
+import com.optic.console.domain.auth.RevokedAccessToken;
+import com.optic.console.domain.auth.RevokedAccessTokenRepository;
+import com.optic.console.domain.auth.RevokedAccessTokenRepository.RevokedJti;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Revocation list for access tokens, keyed by JWT id. Every instance keeps a bloom
+ * filter of revoked ids so the common case (token not revoked) is answered from
+ * memory; only filter hits are confirmed against {@code revoked_access_tokens}.
+ * <p>
+ * The filter picks up revocations made on other instances every
+ * {@code jwt.revocation.refresh-interval} and is rebuilt from scratch every
+ * {@code jwt.revocation.rebuild-interval}, which also drops expired entries.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final JwtProperties.Revocation settings;
+    private final Counter confirmedHits;
+    private final Counter falsePositives;
+
+    // Not synchronized: a virtual thread holding a monitor across JDBC calls pins its carrier.
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private volatile BloomFilter filter;
+    private long lastSeenId;
+
+    public TokenRevocationService(RevokedAccessTokenRepository revokedAccessTokenRepository,
+                                  JwtProperties jwtProperties,
+                                  MeterRegistry meterRegistry) {
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.settings = jwtProperties.getRevocation() != null
+                ? jwtProperties.getRevocation()
+                : new JwtProperties.Revocation();
+        this.filter = newFilter(0);
+        this.confirmedHits = Counter.builder("auth.token.revocation.lookups")
+                .description("Revocation filter hits checked against the database")
+                .tag("result", "revoked")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("auth.token.revocation.lookups")
+                .description("Revocation filter hits checked against the database")
+                .tag("result", "false_positive")
+                .register(meterRegistry);
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+
+        boolean revoked = revokedAccessTokenRepository.existsByJti(jti);
+        (revoked ? confirmedHits : falsePositives).increment();
+        return revoked;
+    }
+
+    /**
+     * Revokes an access token until it expires. Tokens without a JWT id predate
+     * revocation support and can only be invalidated through the user's token version.
+     */
+    public void revoke(String jti, Long userId, Date expiresAt) {
+        if (jti == null || expiresAt == null || expiresAt.before(new Date())) {
+            return;
+        }
+
+        if (!revokedAccessTokenRepository.existsByJti(jti)) {
+            RevokedAccessToken revoked = new RevokedAccessToken();
+            revoked.setJti(jti);
+            revoked.setUserId(userId);
+            revoked.setExpiresAt(LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault()));
+            try {
+                revokedAccessTokenRepository.save(revoked);
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Access token {} was revoked concurrently", jti);
+            }
+        }
+
+        filter.put(jti);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Adds revocations written since the last refresh, including those made by
+     * other instances. The scan starts {@code jwt.revocation.refresh-id-overlap} ids
+     * below the highest id seen so rows whose transaction committed late are not
+     * skipped; re-adding an id already in the filter is harmless.
+     */
+    @Scheduled(
+            initialDelayString = "${jwt.revocation.refresh-interval:PT5S}",
+            fixedDelayString = "${jwt.revocation.refresh-interval:PT5S}")
+    public void refresh() {
+        updateLock.lock();
+        try {
+            List<RevokedJti> added = revokedAccessTokenRepository
+                    .findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(
+                            Math.max(0L, lastSeenId - settings.getRefreshIdOverlap()), LocalDateTime.now());
+            BloomFilter current = filter;
+            for (RevokedJti revoked : added) {
+                current.put(revoked.getJti());
+                lastSeenId = Math.max(lastSeenId, revoked.getId());
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not refresh the token revocation filter: {}", e.getMessage());
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the filter with one built from the unexpired revocations, sized for
+     * the current count, and purges expired rows.
+     */
+    @Scheduled(
+            initialDelayString = "${jwt.revocation.rebuild-interval:PT1H}",
+            fixedDelayString = "${jwt.revocation.rebuild-interval:PT1H}")
+    public void rebuild() {
+        updateLock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int purged = revokedAccessTokenRepository.deleteExpiredBefore(now);
+
+            List<RevokedJti> active = revokedAccessTokenRepository
+                    .findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(0L, now);
+            BloomFilter rebuilt = newFilter(active.size());
+            long maxId = lastSeenId;
+            for (RevokedJti revoked : active) {
+                rebuilt.put(revoked.getJti());
+                maxId = Math.max(maxId, revoked.getId());
+            }
+
+            filter = rebuilt;
+            lastSeenId = maxId;
+            log.info("Rebuilt token revocation filter with {} entries ({} expired purged)", active.size(), purged);
+        } catch (DataAccessException e) {
+            log.warn("Could not rebuild the token revocation filter: {}", e.getMessage());
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private BloomFilter newFilter(int currentCount) {
+        // Leave headroom so the false-positive rate holds until the next rebuild.
+        int expected = Math.max(settings.getExpectedInsertions(), currentCount * 2);
+        return new BloomFilter(expected, settings.getFalsePositiveRate());
+    }
+}
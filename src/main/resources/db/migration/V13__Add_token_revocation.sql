@@ -0,0 +1,20 @@
+-- Refresh tokens are stored as SHA-256 hashes and kept after rotation so reuse can be detected.
+ALTER TABLE refresh_tokens RENAME COLUMN token TO token_hash;
+ALTER TABLE refresh_tokens ADD COLUMN IF NOT EXISTS revoked_at TIMESTAMP WITH TIME ZONE;
+ALTER TABLE refresh_tokens ADD COLUMN IF NOT EXISTS replaced_by_id BIGINT REFERENCES refresh_tokens(id) ON DELETE SET NULL;
+
+-- The UNIQUE constraint already indexes token_hash.
+DROP INDEX IF EXISTS idx_refresh_tokens_token;
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
+
+-- JWT ids of access tokens revoked before they expire. Rows can be purged once expires_at has passed.
+CREATE TABLE IF NOT EXISTS revoked_access_tokens (
+    id BIGSERIAL PRIMARY KEY,
+    jti VARCHAR(64) NOT NULL UNIQUE,
+    user_id BIGINT,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    revoked_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_access_tokens_expires_at ON revoked_access_tokens (expires_at);
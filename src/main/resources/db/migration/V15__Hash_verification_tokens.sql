@@ -0,0 +1,20 @@
+-- Verification tokens are stored as 32-byte SHA-256 digests instead of the raw token string.
+ALTER TABLE verification_tokens ADD COLUMN IF NOT EXISTS token_hash BYTEA;
+UPDATE verification_tokens SET token_hash = sha256(convert_to(token, 'UTF8')) WHERE token_hash IS NULL;
+ALTER TABLE verification_tokens ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE verification_tokens ADD CONSTRAINT chk_verification_tokens_token_hash CHECK (octet_length(token_hash) = 32);
+
+ALTER TABLE verification_tokens DROP CONSTRAINT IF EXISTS uc_token;
+ALTER TABLE verification_tokens DROP COLUMN IF EXISTS token;
+
+-- Token lookup: the validity check (type, expires_at, used_at) is answered from the index alone.
+CREATE UNIQUE INDEX IF NOT EXISTS uq_verification_tokens_token_hash
+    ON verification_tokens (token_hash) INCLUDE (type, expires_at, used_at);
+
+-- Outstanding token of a user: only unused rows are indexed.
+CREATE INDEX IF NOT EXISTS idx_verification_tokens_user_type_unused
+    ON verification_tokens (user_id, type) INCLUDE (id, expires_at, created_at)
+    WHERE used_at IS NULL;
+
+-- Cleanup of expired tokens.
+CREATE INDEX IF NOT EXISTS idx_verification_tokens_expires_at ON verification_tokens (expires_at);
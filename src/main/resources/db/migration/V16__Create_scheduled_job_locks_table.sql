@@ -0,0 +1,7 @@
+-- Leases for scheduled jobs that must run on one instance at a time.
+CREATE TABLE IF NOT EXISTS scheduled_job_locks (
+    name VARCHAR(64) PRIMARY KEY,
+    locked_until TIMESTAMP WITH TIME ZONE NOT NULL,
+    locked_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    locked_by VARCHAR(255) NOT NULL
+);
@@ -0,0 +1,12 @@
+-- Entities take ids from their sequence in blocks of 50 (Hibernate pooled-lo optimizer), so
+-- inserts no longer need the generated key back and can be sent as JDBC batches.
+-- The sequence increment must match allocationSize on the entity.
+-- Column defaults still call nextval, which reserves a whole block for plain SQL inserts.
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE refresh_tokens_id_seq INCREMENT BY 50;
+ALTER SEQUENCE verification_tokens_id_seq INCREMENT BY 50;
+ALTER SEQUENCE workspaces_id_seq INCREMENT BY 50;
+ALTER SEQUENCE roles_id_seq INCREMENT BY 50;
+ALTER SEQUENCE workspace_members_id_seq INCREMENT BY 50;
+ALTER SEQUENCE email_outbox_id_seq INCREMENT BY 50;
+ALTER SEQUENCE permissions_id_seq INCREMENT BY 50;
@@ -0,0 +1,51 @@
+-- Permissions get the fixed bit of PermissionKey; each role carries the OR of its permissions' bits
+-- in permission_mask, so authorization reads one bigint per membership instead of join rows.
+ALTER TABLE permissions ADD COLUMN IF NOT EXISTS bit SMALLINT;
+ALTER TABLE permissions ADD CONSTRAINT permissions_bit_range CHECK (bit BETWEEN 0 AND 63);
+ALTER TABLE permissions ADD CONSTRAINT permissions_bit_unique UNIQUE (bit);
+
+-- Must match PermissionKey
+INSERT INTO permissions (name, bit, description) VALUES
+    ('workspace.view', 0, 'View the workspace'),
+    ('workspace.settings.manage', 1, 'Change workspace settings'),
+    ('workspace.delete', 2, 'Delete the workspace'),
+    ('members.view', 3, 'List workspace members'),
+    ('members.manage', 4, 'Invite, remove and change members'),
+    ('roles.manage', 5, 'Create and edit roles'),
+    ('projects.view', 6, 'View projects'),
+    ('projects.create', 7, 'Create projects'),
+    ('projects.manage', 8, 'Change project settings'),
+    ('projects.delete', 9, 'Delete projects'),
+    ('api-keys.manage', 10, 'Rotate project API keys'),
+    ('events.read', 11, 'Query captured events'),
+    ('events.write', 12, 'Capture events from the console'),
+    ('billing.manage', 13, 'Manage billing')
+ON CONFLICT (name) DO UPDATE SET bit = EXCLUDED.bit;
+
+ALTER TABLE roles ADD COLUMN IF NOT EXISTS permission_mask BIGINT NOT NULL DEFAULT 0;
+
+CREATE OR REPLACE FUNCTION role_permission_mask(target_role BIGINT) RETURNS BIGINT AS $$
+    SELECT COALESCE(bit_or(1::BIGINT << p.bit), 0)
+    FROM role_permissions rp
+    JOIN permissions p ON p.id = rp.permission_id
+    WHERE rp.role_id = target_role AND p.bit IS NOT NULL
+$$ LANGUAGE sql STABLE;
+
+UPDATE roles SET permission_mask = role_permission_mask(id);
+
+-- role_permissions stays the editable list; the trigger keeps the mask in step with it.
+CREATE OR REPLACE FUNCTION refresh_role_permission_mask() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        UPDATE roles SET permission_mask = role_permission_mask(id) WHERE id = OLD.role_id;
+    END IF;
+    IF TG_OP <> 'DELETE' THEN
+        UPDATE roles SET permission_mask = role_permission_mask(id) WHERE id = NEW.role_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_role_permissions_mask
+    AFTER INSERT OR UPDATE OR DELETE ON role_permissions
+    FOR EACH ROW EXECUTE FUNCTION refresh_role_permission_mask();
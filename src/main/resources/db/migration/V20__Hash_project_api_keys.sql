@@ -0,0 +1,22 @@
+-- Project API keys are stored as 32-byte SHA-256 digests instead of the raw key. The
+-- first characters are kept in api_key_prefix so a key can still be recognised in the console.
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS api_key_hash BYTEA;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS api_key_prefix VARCHAR(12);
+UPDATE projects
+SET api_key_hash = sha256(convert_to(api_key, 'UTF8')),
+    api_key_prefix = left(api_key, 12)
+WHERE api_key_hash IS NULL;
+ALTER TABLE projects ALTER COLUMN api_key_hash SET NOT NULL;
+ALTER TABLE projects ALTER COLUMN api_key_prefix SET NOT NULL;
+ALTER TABLE projects ADD CONSTRAINT chk_projects_api_key_hash CHECK (octet_length(api_key_hash) = 32);
+
+DROP INDEX IF EXISTS idx_api_key;
+ALTER TABLE projects DROP COLUMN IF EXISTS api_key;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_projects_api_key_hash ON projects (api_key_hash);
+
+UPDATE projects SET enforce_origin_check = FALSE WHERE enforce_origin_check IS NULL;
+ALTER TABLE projects ALTER COLUMN enforce_origin_check SET NOT NULL;
+
+-- Pooled ids, as in V18
+ALTER SEQUENCE projects_id_seq INCREMENT BY 50;
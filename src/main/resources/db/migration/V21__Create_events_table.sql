@@ -0,0 +1,14 @@
+-- Events captured from the SDKs. Append-only and written with COPY in batches, so no
+-- primary key or foreign keys to check per row; uuid lets readers drop duplicates
+-- from client retries.
+CREATE TABLE IF NOT EXISTS events (
+    project_id BIGINT NOT NULL,
+    uuid UUID NOT NULL,
+    event VARCHAR(200) NOT NULL,
+    distinct_id VARCHAR(200) NOT NULL,
+    properties JSONB,
+    timestamp TIMESTAMP WITH TIME ZONE NOT NULL,
+    received_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_events_project_timestamp ON events (project_id, timestamp);
@@ -0,0 +1,6 @@
+-- The purge job deletes finished rows oldest first; keep the index limited to them.
+CREATE INDEX IF NOT EXISTS idx_email_outbox_finished ON email_outbox (created_at)
+    WHERE status IN ('SENT', 'FAILED');
+
+-- Rows finished before variables were cleared on completion still hold their links.
+UPDATE email_outbox SET variables = '{}'::jsonb WHERE status IN ('SENT', 'FAILED');
@@ -8,6 +8,8 @@ import com.optic.console.domain.user.dto.LoginRequest;
 import com.optic.console.domain.user.dto.RegisterRequest;
 import com.optic.console.domain.user.dto.ResetPasswordRequest;
 import com.optic.console.domain.auth.dto.EmailVerificationRequest;
+import com.optic.console.domain.auth.dto.RefreshTokenRequest;
+import com.optic.console.domain.auth.exception.InvalidRefreshTokenException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -131,6 +133,24 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.message").exists());
     }
     
+    @Test
+    void login_HashingPoolSaturated_ShouldReturnServiceUnavailableWithRetryAfter() throws Exception {
+        LoginRequest request = new LoginRequest();
+        request.setEmail(testEmail);
+        request.setPassword(testPassword);
+
+        when(authService.login(any(LoginRequest.class)))
+            .thenThrow(new com.optic.console.infrastructure.exception.ServiceOverloadedException("The service is busy. Please try again shortly.", 2));
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
     @Test
     void forgotPassword_ValidEmail_ShouldReturnOk() throws Exception {
         ForgotPasswordRequest request = new ForgotPasswordRequest();
@@ -348,4 +368,75 @@ class AuthControllerTest {
         org.junit.jupiter.api.Assertions.assertTrue(Boolean.TRUE.equals(captured.getRememberMe()),
                 "rememberMe flag should be deserialized as true");
     }
-}
\ No newline at end of file
+
+    @Test
+    void getCurrentUser_Authenticated_ShouldReturnUser() throws Exception {
+        com.optic.console.infrastructure.security.AuthenticatedUser principal =
+                new com.optic.console.infrastructure.security.AuthenticatedUser(1L, testEmail,
+                        com.optic.console.domain.user.UserStatus.ACTIVE, true, 0, "Test", "User");
+        AuthResponse authResponse = AuthResponse.builder()
+                .token(testToken)
+                .email(testEmail)
+                .firstName("Test")
+                .lastName("User")
+                .build();
+
+        when(authService.getCurrentUser(principal, testToken)).thenReturn(authResponse);
+
+        // Security filters are disabled in this slice, so set the context the JWT filter would build.
+        org.springframework.security.core.context.SecurityContextHolder.getContext().setAuthentication(
+                org.springframework.security.authentication.UsernamePasswordAuthenticationToken
+                        .authenticated(principal, null, java.util.List.of()));
+        try {
+            mockMvc.perform(get("/api/v1/auth/me")
+                            .header("Authorization", "Bearer " + testToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.email").value(testEmail))
+                    .andExpect(jsonPath("$.firstName").value("Test"));
+        } finally {
+            org.springframework.security.core.context.SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    void getCurrentUser_NotAuthenticated_ShouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/v1/auth/me")
+                        .header("Authorization", "Bearer " + testToken))
+                .andExpect(status().isUnauthorized());
+
+        Mockito.verifyNoInteractions(authService);
+    }
+
+    @Test
+    void refresh_ValidToken_ShouldReturnNewTokens() throws Exception {
+        RefreshTokenRequest request = new RefreshTokenRequest();
+        request.setRefreshToken("old-refresh-token");
+
+        when(authService.refresh(any(RefreshTokenRequest.class))).thenReturn(AuthResponse.builder()
+                .token(testToken)
+                .refreshToken("new-refresh-token")
+                .email(testEmail)
+                .build());
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.token").value(testToken))
+                .andExpect(jsonPath("$.data.refreshToken").value("new-refresh-token"));
+    }
+
+    @Test
+    void refresh_InvalidToken_ShouldReturnUnauthorized() throws Exception {
+        RefreshTokenRequest request = new RefreshTokenRequest();
+        request.setRefreshToken("reused-refresh-token");
+
+        when(authService.refresh(any(RefreshTokenRequest.class))).thenThrow(new InvalidRefreshTokenException());
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+}
@@ -0,0 +1,81 @@
+package com.optic.console.api.ingestion;
+
+import com.optic.console.application.service.EventIngestionService;
+import com.optic.console.infrastructure.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(IngestionController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class IngestionControllerTest {
+
+    private static final String BODY = "[{\"event\": \"a\", \"distinct_id\": \"u\"}]";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private EventIngestionService eventIngestionService;
+
+    @Test
+    void batch_GzipBody_IsDecompressed() throws Exception {
+        when(eventIngestionService.capture(eq("key"), eq("https://app.example.com"), any(InputStream.class), eq(true)))
+                .thenAnswer(invocation -> {
+                    String body = new String(invocation.<InputStream>getArgument(2).readAllBytes(), StandardCharsets.UTF_8);
+                    return BODY.equals(body) ? 1 : -1;
+                });
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(BODY.getBytes(StandardCharsets.UTF_8));
+        }
+
+        mockMvc.perform(post("/api/v1/batch")
+                        .header("X-Api-Key", "key")
+                        .header("Origin", "https://app.example.com")
+                        .header("Content-Encoding", "gzip")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(compressed.toByteArray()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.accepted").value(1));
+    }
+
+    @Test
+    void capture_UnsupportedEncoding_IsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/capture")
+                        .header("X-Api-Key", "key")
+                        .header("Content-Encoding", "br")
+                        .content(BODY))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void capture_FullBuffer_Is429WithRetryAfter() throws Exception {
+        when(eventIngestionService.capture(eq("key"), any(), any(InputStream.class), eq(false)))
+                .thenThrow(new ServiceOverloadedException("Too many events in flight", HttpStatus.TOO_MANY_REQUESTS, 1));
+
+        mockMvc.perform(post("/api/v1/capture")
+                        .header("X-Api-Key", "key")
+                        .content(BODY))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+}
@@ -1,7 +1,15 @@
 package com.optic.console.application;
 
 import java.security.SecureRandom;
-
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -120,4 +128,48 @@ class TokenGeneratorTest {
         byte[] decoded = decoder.decode(result);
         assertTrue(decoded.length >= largeSize * 3 / 4 - 2, "Decoded size should be approximately correct");
     }
-}
\ No newline at end of file
+
+    @Test
+    void generateBatch_ReturnsRequestedNumberOfDistinctTokens() {
+        TokenGenerator generator = new TokenGenerator();
+
+        List<String> tokens = generator.generateBatch(24, 5000);
+
+        assertEquals(5000, tokens.size());
+        assertEquals(5000, new HashSet<>(tokens).size());
+        for (String token : tokens) {
+            assertEquals(24, java.util.Base64.getUrlDecoder().decode(token).length);
+        }
+    }
+
+    @Test
+    void generateBatch_WithZeroCount_ReturnsEmptyList() {
+        assertTrue(new TokenGenerator().generateBatch(32, 0).isEmpty());
+    }
+
+    @Test
+    void generateBatch_WithNegativeCount_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenGenerator().generateBatch(32, -1));
+    }
+
+    @Test
+    void generate_ConcurrentCallers_ProduceUniqueTokens() throws InterruptedException {
+        TokenGenerator generator = new TokenGenerator();
+        Set<String> tokens = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int thread = 0; thread < 8; thread++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        tokens.add(generator.generate(i % 2 == 0 ? 32 : 16));
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        }
+
+        assertEquals(8000, tokens.size());
+    }
+}
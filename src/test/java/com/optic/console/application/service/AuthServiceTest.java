@@ -14,7 +14,11 @@ import org.mockito.ArgumentCaptor;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -31,7 +35,19 @@ import com.optic.console.domain.user.dto.LoginRequest;
 import com.optic.console.domain.user.dto.RegisterRequest;
 import com.optic.console.domain.user.exception.UserAlreadyExistsException;
 import com.optic.console.infrastructure.email.EmailService;
+import com.optic.console.infrastructure.security.AuthenticatedUser;
+import com.optic.console.infrastructure.security.service.AuthenticatedUserResolver;
 import com.optic.console.infrastructure.security.service.JwtService;
+import com.optic.console.infrastructure.security.service.TokenRevocationService;
+import com.optic.console.domain.auth.dto.RefreshTokenRequest;
+import com.optic.console.domain.auth.exception.InvalidRefreshTokenException;
+import com.optic.console.domain.user.UserStatus;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.impl.DefaultClaims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Date;
+import org.springframework.transaction.support.TransactionOperations;
 
 class AuthServiceTest extends BaseTest {
 
@@ -56,6 +72,24 @@ class AuthServiceTest extends BaseTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private AuthenticatedUserResolver authenticatedUserResolver;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private PasswordResetRequestProcessor passwordResetRequestProcessor;
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private AuthService authService;
 
@@ -93,6 +127,29 @@ class AuthServiceTest extends BaseTest {
         verify(passwordEncoder).encode(testPassword);
     }
 
+    @Test
+    void register_HashesPasswordBeforeOpeningTransaction() {
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail(testEmail);
+        request.setPassword(testPassword);
+
+        when(userRepository.existsByEmailIgnoreCase(testEmail)).thenReturn(false);
+        when(passwordEncoder.encode(testPassword)).thenReturn(encodedPassword);
+        VerificationToken verificationToken = new VerificationToken();
+        verificationToken.setToken("verification-token");
+        when(verificationTokenService.createToken(any(User.class), eq(TokenType.EMAIL_VERIFICATION), eq(Duration.ofHours(24))))
+                .thenReturn(verificationToken);
+        when(applicationProperties.getFrontendUrl()).thenReturn("http://frontend.example");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        authService.register(request);
+
+        InOrder inOrder = inOrder(passwordEncoder, transactionOperations, userRepository);
+        inOrder.verify(passwordEncoder).encode(testPassword);
+        inOrder.verify(transactionOperations).executeWithoutResult(any());
+        inOrder.verify(userRepository).save(any(User.class));
+    }
+
     @Test
     void register_DuplicateEmail_ShouldThrowException() {
         RegisterRequest request = new RegisterRequest();
@@ -119,13 +176,139 @@ class AuthServiceTest extends BaseTest {
 
         when(userRepository.findByEmailIgnoreCase(testEmail)).thenReturn(Optional.of(user));
         when(passwordEncoder.matches(testPassword, encodedPassword)).thenReturn(true);
-        when(jwtService.generateToken(testEmail, false)).thenReturn(testToken);
+        when(jwtService.generateToken(user, false)).thenReturn(testToken);
+        when(refreshTokenService.issue(user)).thenReturn("refresh-token");
 
         var response = authService.login(request);
 
         assertNotNull(response);
         assertEquals(testToken, response.getToken());
+        assertEquals("refresh-token", response.getRefreshToken());
         assertEquals(testEmail, response.getEmail());
+        assertEquals(1, loginTimerCount("success"));
+    }
+
+    private long loginTimerCount(String outcome) {
+        return meterRegistry.get("auth.operation.duration")
+                .tag("operation", "login")
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    @Test
+    void refresh_ValidToken_ReturnsRotatedTokens() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail(testEmail);
+        user.setStatus(UserStatus.ACTIVE);
+        RefreshTokenRequest request = new RefreshTokenRequest();
+        request.setRefreshToken("old-refresh-token");
+
+        when(refreshTokenService.rotate("old-refresh-token"))
+                .thenReturn(new RefreshTokenService.Rotation(user, "new-refresh-token"));
+        when(jwtService.generateToken(user, false)).thenReturn("new.jwt.token");
+
+        var response = authService.refresh(request);
+
+        assertEquals("new.jwt.token", response.getToken());
+        assertEquals("new-refresh-token", response.getRefreshToken());
+    }
+
+    @Test
+    void refresh_SuspendedUser_RevokesSessions() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail(testEmail);
+        user.setStatus(UserStatus.SUSPENDED);
+        RefreshTokenRequest request = new RefreshTokenRequest();
+        request.setRefreshToken("old-refresh-token");
+
+        when(refreshTokenService.rotate("old-refresh-token"))
+                .thenReturn(new RefreshTokenService.Rotation(user, "new-refresh-token"));
+
+        assertThrows(InvalidRefreshTokenException.class, () -> authService.refresh(request));
+        verify(refreshTokenService).revokeAll(1L);
+        verify(jwtService, never()).generateToken(any(User.class), any());
+    }
+
+    @Test
+    void logout_RevokesAccessAndRefreshTokens() {
+        AuthenticatedUser principal = new AuthenticatedUser(1L, testEmail, UserStatus.ACTIVE, true, 0, "Test", "User");
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        Claims claims = new DefaultClaims();
+        claims.setId("jti-1");
+        claims.setExpiration(expiration);
+        when(jwtService.parseClaims("raw.jwt.token")).thenReturn(claims);
+
+        authService.logout(principal, "raw.jwt.token", "refresh-token");
+
+        verify(tokenRevocationService).revoke("jti-1", 1L, claims.getExpiration());
+        verify(refreshTokenService).revoke("refresh-token");
+    }
+
+    @Test
+    void login_OutdatedHash_RehashesPassword() {
+        LoginRequest request = new LoginRequest();
+        request.setEmail(testEmail);
+        request.setPassword(testPassword);
+
+        User user = new User();
+        user.setEmail(testEmail);
+        user.setPassword(encodedPassword);
+
+        when(userRepository.findByEmailIgnoreCase(testEmail)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(testPassword, encodedPassword)).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(encodedPassword)).thenReturn(true);
+        when(passwordEncoder.encode(testPassword)).thenReturn("{bcrypt}$2a$12$upgraded");
+        when(jwtService.generateToken(user, false)).thenReturn("test.jwt.token");
+
+        authService.login(request);
+
+        assertEquals("{bcrypt}$2a$12$upgraded", user.getPassword());
+        verify(userRepository).save(user);
+    }
+
+    @Test
+    void login_CurrentHash_DoesNotRehash() {
+        LoginRequest request = new LoginRequest();
+        request.setEmail(testEmail);
+        request.setPassword(testPassword);
+
+        User user = new User();
+        user.setEmail(testEmail);
+        user.setPassword(encodedPassword);
+
+        when(userRepository.findByEmailIgnoreCase(testEmail)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(testPassword, encodedPassword)).thenReturn(true);
+        when(jwtService.generateToken(user, false)).thenReturn("test.jwt.token");
+
+        authService.login(request);
+
+        verify(passwordEncoder, never()).encode(any());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void login_RehashFails_StillLogsIn() {
+        LoginRequest request = new LoginRequest();
+        request.setEmail(testEmail);
+        request.setPassword(testPassword);
+
+        User user = new User();
+        user.setEmail(testEmail);
+        user.setPassword(encodedPassword);
+
+        when(userRepository.findByEmailIgnoreCase(testEmail)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(testPassword, encodedPassword)).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(encodedPassword)).thenReturn(true);
+        when(passwordEncoder.encode(testPassword)).thenThrow(new IllegalStateException("pool busy"));
+        when(jwtService.generateToken(user, false)).thenReturn("test.jwt.token");
+
+        var response = authService.login(request);
+
+        assertEquals("test.jwt.token", response.getToken());
+        assertEquals(encodedPassword, user.getPassword());
     }
 
     @Test
@@ -142,6 +325,7 @@ class AuthServiceTest extends BaseTest {
         when(passwordEncoder.matches(any(), any())).thenReturn(false);
 
         assertThrows(BadCredentialsException.class, () -> authService.login(request));
+        assertEquals(1, loginTimerCount("failure"));
     }
 
     @Test
@@ -199,46 +383,25 @@ class AuthServiceTest extends BaseTest {
     }
 
     @Test
-    void handleForgotPasswordRequest_UserExists_SendsEmail() {
+    void handleForgotPasswordRequest_QueuesWithoutDatabaseAccess() {
         ForgotPasswordRequest request = new ForgotPasswordRequest();
         request.setEmail(testEmail);
 
-        User user = new User();
-        user.setEmail(testEmail);
-        user.setFirstName("Test");
-        user.setLastName("User");
-
-        String testToken = "hello_world_token_123";
-        String frontendUrl = "http://frontend.example";
-        String expectedResetLink = frontendUrl + "/auth/verification/reset-password?token=" + testToken;
-
-        when(userRepository.findByEmailIgnoreCase(testEmail)).thenReturn(Optional.of(user));
-        when(applicationProperties.getFrontendUrl()).thenReturn(frontendUrl);
-        
-        VerificationToken token = new VerificationToken();
-        token.setToken(testToken);
-
-        when(verificationTokenService.createToken(eq(user), eq(TokenType.PASSWORD_RESET), eq(Duration.ofHours(1))))
-                .thenReturn(token);
-
         assertDoesNotThrow(() -> authService.handleForgotPasswordRequest(request));
 
-        verify(verificationTokenService).createToken(eq(user), eq(TokenType.PASSWORD_RESET), eq(Duration.ofHours(1)));
-        verify(emailService).sendPasswordResetEmail(
-                eq(testEmail),
-                eq("Test User"),
-                eq(expectedResetLink)
-        );
+        verify(passwordResetRequestProcessor).submit(testEmail);
+        org.mockito.Mockito.verifyNoInteractions(userRepository, verificationTokenService, emailService);
     }
 
     @Test
-    void handleForgotPasswordRequest_UserDoesNotExist_DoesNotThrow() {
+    void handleForgotPasswordRequest_UnknownEmail_TakesSamePath() {
         ForgotPasswordRequest request = new ForgotPasswordRequest();
         request.setEmail("nonexistent@example.com");
 
-        when(userRepository.findByEmailIgnoreCase("nonexistent@example.com")).thenReturn(Optional.empty());
-
         assertDoesNotThrow(() -> authService.handleForgotPasswordRequest(request));
+
+        verify(passwordResetRequestProcessor).submit("nonexistent@example.com");
+        org.mockito.Mockito.verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -287,6 +450,54 @@ class AuthServiceTest extends BaseTest {
         verify(passwordEncoder).encode(newPassword);
         verify(userRepository).save(user);
         verify(verificationTokenService).markAsUsed(token);
+        verify(refreshTokenService).revokeAll(user.getId());
+        assertEquals(1, user.getTokenVersion(), "Password reset should invalidate previously issued tokens");
+        verify(authenticatedUserResolver).evict(user.getId());
+    }
+
+    @Test
+    void handlePasswordReset_HashesPasswordBeforeOpeningTransaction() {
+        String tokenValue = "reset-token";
+        String newPassword = "NewSecurePass123!";
+
+        com.optic.console.domain.user.dto.ResetPasswordRequest request =
+                new com.optic.console.domain.user.dto.ResetPasswordRequest();
+        request.setToken(tokenValue);
+        request.setNewPassword(newPassword);
+        request.setNewPasswordConfirmation(newPassword);
+
+        User user = new User();
+        user.setEmail(testEmail);
+        VerificationToken token = new VerificationToken();
+        token.setToken(tokenValue);
+        token.setUser(user);
+
+        when(passwordEncoder.encode(newPassword)).thenReturn("encoded-new-password");
+        when(verificationTokenService.getValidTokenOrThrowException(tokenValue, TokenType.PASSWORD_RESET))
+                .thenReturn(token);
+
+        authService.handlePasswordReset(request);
+
+        InOrder inOrder = inOrder(passwordEncoder, transactionOperations, verificationTokenService, userRepository);
+        inOrder.verify(passwordEncoder).encode(newPassword);
+        inOrder.verify(transactionOperations).executeWithoutResult(any());
+        inOrder.verify(verificationTokenService).getValidTokenOrThrowException(tokenValue, TokenType.PASSWORD_RESET);
+        inOrder.verify(userRepository).save(user);
+        assertEquals("encoded-new-password", user.getPassword());
+    }
+
+    @Test
+    void getCurrentUser_BuildsResponseFromClaimsWithoutDatabase() {
+        AuthenticatedUser principal = new AuthenticatedUser(1L, testEmail,
+                com.optic.console.domain.user.UserStatus.ACTIVE, true, 0, "Test", "User");
+
+        var response = authService.getCurrentUser(principal, "raw.jwt.token");
+
+        assertEquals(testEmail, response.getEmail());
+        assertEquals("Test", response.getFirstName());
+        assertEquals("User", response.getLastName());
+        assertEquals("raw.jwt.token", response.getToken());
+        org.mockito.Mockito.verifyNoInteractions(userRepository);
     }
 
     @Test
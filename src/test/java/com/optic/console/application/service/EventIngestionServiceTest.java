@@ -0,0 +1,116 @@
+package com.optic.console.application.service;
+
+import com.optic.console.config.IngestionProperties;
+import com.optic.console.domain.ingestion.CapturedEvent;
+import com.optic.console.domain.project.exception.InvalidApiKeyException;
+import com.optic.console.domain.project.exception.OriginNotAllowedException;
+import com.optic.console.infrastructure.exception.ServiceOverloadedException;
+import com.optic.console.infrastructure.ingestion.EventIngestionPipeline;
+import com.optic.console.infrastructure.ingestion.EventStreamParser;
+import com.optic.console.infrastructure.ingestion.IngestionReceipt;
+import com.optic.console.infrastructure.security.AuthenticatedProject;
+import com.optic.console.infrastructure.security.OriginMatcher;
+import com.optic.console.infrastructure.security.service.ProjectApiKeyResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventIngestionServiceTest {
+
+    @Mock
+    private ProjectApiKeyResolver projectApiKeyResolver;
+
+    @Mock
+    private EventStreamParser eventStreamParser;
+
+    @Mock
+    private EventIngestionPipeline eventIngestionPipeline;
+
+    @Mock
+    private IngestionReceipt receipt;
+
+    private EventIngestionService service;
+
+    private final InputStream body = new ByteArrayInputStream(new byte[0]);
+
+    @BeforeEach
+    void setUp() {
+        IngestionProperties properties = new IngestionProperties();
+        properties.setAckTimeout(Duration.ofMillis(50));
+        service = new EventIngestionService(projectApiKeyResolver, eventStreamParser, eventIngestionPipeline, properties);
+    }
+
+    private void project(boolean enforceOrigin) {
+        when(projectApiKeyResolver.resolve("key")).thenReturn(Optional.of(new AuthenticatedProject(
+                10L, 3L, enforceOrigin, OriginMatcher.compile(List.of("https://app.example.com")))));
+    }
+
+    private static List<CapturedEvent> events(int count) {
+        Instant now = Instant.now();
+        return Collections.nCopies(count, new CapturedEvent(10L, UUID.randomUUID(), "e", "u", null, now, now));
+    }
+
+    @Test
+    void capture_ReturnsAfterCommit() {
+        project(true);
+        when(eventStreamParser.parseBatch(eq(body), eq(10L), any())).thenReturn(events(2));
+        when(eventIngestionPipeline.enqueue(anyList())).thenReturn(receipt);
+        when(receipt.completion()).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertEquals(2, service.capture("key", "https://app.example.com", body, true));
+    }
+
+    @Test
+    void capture_UnknownKey_IsRejected() {
+        when(projectApiKeyResolver.resolve("bad")).thenReturn(Optional.empty());
+
+        assertThrows(InvalidApiKeyException.class, () -> service.capture("bad", null, body, false));
+        verifyNoInteractions(eventStreamParser, eventIngestionPipeline);
+    }
+
+    @Test
+    void capture_DisallowedOrigin_IsRejected() {
+        project(true);
+
+        assertThrows(OriginNotAllowedException.class, () -> service.capture("key", "https://evil.io", body, false));
+        verifyNoInteractions(eventStreamParser, eventIngestionPipeline);
+    }
+
+    @Test
+    void capture_NotCommittedInTime_Is503() {
+        project(false);
+        when(eventStreamParser.parseOne(eq(body), eq(10L), any())).thenReturn(events(1).get(0));
+        when(eventIngestionPipeline.enqueue(anyList())).thenReturn(receipt);
+        when(receipt.completion()).thenReturn(new CompletableFuture<>());
+
+        ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+                () -> service.capture("key", "https://evil.io", body, false));
+        assertEquals(503, exception.getStatus().value());
+    }
+
+    @Test
+    void capture_EmptyBatch_SkipsPipeline() {
+        project(false);
+        when(eventStreamParser.parseBatch(eq(body), eq(10L), any())).thenReturn(List.of());
+
+        assertEquals(0, service.capture("key", null, body, true));
+        verifyNoInteractions(eventIngestionPipeline);
+    }
+}
@@ -0,0 +1,153 @@
+package com.optic.console.application.service;
+
+import com.optic.console.config.ApplicationProperties;
+import com.optic.console.config.PasswordResetProperties;
+import com.optic.console.domain.auth.TokenType;
+import com.optic.console.domain.auth.VerificationToken;
+import com.optic.console.domain.user.User;
+import com.optic.console.domain.user.UserRepository;
+import com.optic.console.infrastructure.email.EmailService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordResetRequestProcessorTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private VerificationTokenService verificationTokenService;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private ApplicationProperties applicationProperties;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordResetRequestProcessor processor;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        meterRegistry = new SimpleMeterRegistry();
+        processor = new PasswordResetRequestProcessor(userRepository, verificationTokenService, emailService,
+                applicationProperties, new PasswordResetProperties(), transactionManager, meterRegistry);
+
+        user = new User();
+        user.setId(1L);
+        user.setEmail("test@example.com");
+        user.setFirstName("Test");
+        user.setLastName("User");
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        processor.destroy();
+    }
+
+    @Test
+    void process_ExistingUser_IssuesTokenAndQueuesEmail() {
+        VerificationToken token = new VerificationToken();
+        token.setToken("reset-token");
+        when(userRepository.findByEmailIgnoreCase("test@example.com")).thenReturn(Optional.of(user));
+        when(verificationTokenService.findRecentToken(eq(user), eq(TokenType.PASSWORD_RESET), any()))
+                .thenReturn(Optional.empty());
+        when(verificationTokenService.createToken(user, TokenType.PASSWORD_RESET, Duration.ofHours(1))).thenReturn(token);
+        when(applicationProperties.getFrontendUrl()).thenReturn("http://frontend.example");
+
+        processor.process("test@example.com");
+
+        verify(emailService).sendPasswordResetEmail("test@example.com", "Test User",
+                "http://frontend.example/auth/verification/reset-password?token=reset-token");
+    }
+
+    @Test
+    void process_UnknownUser_DoesNothing() {
+        when(userRepository.findByEmailIgnoreCase("nobody@example.com")).thenReturn(Optional.empty());
+
+        processor.process("nobody@example.com");
+
+        verifyNoInteractions(verificationTokenService, emailService);
+    }
+
+    @Test
+    void process_RecentTokenExists_DoesNotIssueAnother() {
+        when(userRepository.findByEmailIgnoreCase("test@example.com")).thenReturn(Optional.of(user));
+        when(verificationTokenService.findRecentToken(eq(user), eq(TokenType.PASSWORD_RESET), any()))
+                .thenReturn(Optional.of(new VerificationToken()));
+
+        processor.process("test@example.com");
+
+        verify(verificationTokenService, never()).createToken(any(), any(), any());
+        verifyNoInteractions(emailService);
+    }
+
+    @Test
+    void submit_RepeatedRequests_AreCoalesced() {
+        when(userRepository.findByEmailIgnoreCase(anyString())).thenReturn(Optional.empty());
+
+        processor.submit("Test@Example.com");
+        processor.submit("test@example.com ");
+        processor.submit("TEST@example.com");
+
+        verify(userRepository, timeout(2000).times(1)).findByEmailIgnoreCase("test@example.com");
+        assertEquals(2.0, meterRegistry.get("auth.password.reset.requests").tag("result", "coalesced").counter().count());
+    }
+
+    @Test
+    void submit_QueueFull_DropsRequestButLetsTheAddressRetry() throws InterruptedException {
+        PasswordResetProperties properties = new PasswordResetProperties();
+        properties.setQueueCapacity(1);
+        processor.destroy();
+        processor = new PasswordResetRequestProcessor(userRepository, verificationTokenService, emailService,
+                applicationProperties, properties, transactionManager, meterRegistry);
+
+        CountDownLatch working = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.findByEmailIgnoreCase(anyString())).thenAnswer(invocation -> {
+            if ("a@example.com".equals(invocation.getArgument(0))) {
+                working.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return Optional.empty();
+        });
+
+        processor.submit("a@example.com");
+        assertTrue(working.await(5, TimeUnit.SECONDS));
+        processor.submit("b@example.com");
+        processor.submit("c@example.com");
+        assertEquals(1.0, meterRegistry.get("auth.password.reset.requests").tag("result", "dropped").counter().count());
+
+        release.countDown();
+        verify(userRepository, timeout(2000)).findByEmailIgnoreCase("b@example.com");
+        processor.submit("c@example.com");
+
+        verify(userRepository, timeout(2000)).findByEmailIgnoreCase("c@example.com");
+        assertEquals(0.0, meterRegistry.get("auth.password.reset.requests").tag("result", "coalesced").counter().count());
+    }
+}
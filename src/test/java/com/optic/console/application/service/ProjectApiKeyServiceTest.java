@@ -0,0 +1,52 @@
+package com.optic.console.application.service;
+
+import com.optic.console.application.TokenDigest;
+import com.optic.console.application.TokenGenerator;
+import com.optic.console.domain.project.Project;
+import com.optic.console.domain.project.ProjectRepository;
+import com.optic.console.domain.project.exception.ProjectNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectApiKeyServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private ProjectApiKeyService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ProjectApiKeyService(projectRepository, new TokenGenerator());
+    }
+
+    @Test
+    void rotate_StoresOnlyHashAndPrefix() {
+        Project project = Project.builder().id(10L).apiKeyHash(new byte[32]).apiKeyPrefix("opk_old").build();
+        when(projectRepository.findById(10L)).thenReturn(Optional.of(project));
+
+        String rawKey = service.rotate(10L);
+
+        assertTrue(rawKey.startsWith(ProjectApiKeyService.KEY_PREFIX));
+        assertArrayEquals(TokenDigest.sha256(rawKey), project.getApiKeyHash());
+        assertEquals(rawKey.substring(0, ProjectApiKeyService.DISPLAY_PREFIX_LENGTH), project.getApiKeyPrefix());
+        verify(projectRepository).save(project);
+    }
+
+    @Test
+    void rotate_UnknownProject_Throws() {
+        when(projectRepository.findById(10L)).thenReturn(Optional.empty());
+
+        assertThrows(ProjectNotFoundException.class, () -> service.rotate(10L));
+        verify(projectRepository, never()).save(any());
+    }
+}
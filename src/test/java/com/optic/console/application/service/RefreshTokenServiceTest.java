@@ -0,0 +1,131 @@
+package com.optic.console.application.service;
+
+import com.optic.console.application.TokenGenerator;
+import com.optic.console.config.JwtProperties;
+import com.optic.console.domain.auth.RefreshToken;
+import com.optic.console.domain.auth.RefreshTokenRepository;
+import com.optic.console.domain.auth.exception.InvalidRefreshTokenException;
+import com.optic.console.domain.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private TokenGenerator tokenGenerator;
+
+    private RefreshTokenService refreshTokenService;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, tokenGenerator, new JwtProperties());
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setEmail("test@example.com");
+    }
+
+    private RefreshToken storedToken(String rawToken) {
+        RefreshToken token = new RefreshToken();
+        token.setId(10L);
+        token.setUser(testUser);
+        token.setTokenHash(RefreshTokenService.hash(rawToken));
+        token.setExpiresAt(LocalDateTime.now().plusDays(1));
+        return token;
+    }
+
+    @Test
+    void issue_StoresHashNotRawToken() {
+        when(tokenGenerator.generate(32)).thenReturn("raw-token");
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        String issued = refreshTokenService.issue(testUser);
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertEquals("raw-token", issued);
+        assertNotEquals("raw-token", saved.getValue().getTokenHash());
+        assertEquals(64, saved.getValue().getTokenHash().length());
+        assertTrue(saved.getValue().getExpiresAt().isAfter(LocalDateTime.now().plusDays(13)));
+    }
+
+    @Test
+    void rotate_ValidToken_RevokesItAndIssuesReplacement() {
+        RefreshToken current = storedToken("old-token");
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("old-token"))).thenReturn(Optional.of(current));
+        when(refreshTokenRepository.revokeIfActive(eq(10L), any(LocalDateTime.class))).thenReturn(1);
+        when(tokenGenerator.generate(32)).thenReturn("new-token");
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> {
+            RefreshToken token = invocation.getArgument(0);
+            if (token.getId() == null) {
+                token.setId(11L);
+            }
+            return token;
+        });
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate("old-token");
+
+        assertEquals("new-token", rotation.refreshToken());
+        assertEquals(testUser, rotation.user());
+        assertTrue(current.isRevoked());
+        assertEquals(11L, current.getReplacedById());
+    }
+
+    @Test
+    void rotate_ReusedToken_RevokesAllUserTokens() {
+        RefreshToken current = storedToken("old-token");
+        current.revoke();
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("old-token"))).thenReturn(Optional.of(current));
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate("old-token"));
+
+        verify(refreshTokenRepository).revokeAllByUserId(eq(1L), any(LocalDateTime.class));
+        verify(tokenGenerator, never()).generate(anyInt());
+    }
+
+    @Test
+    void rotate_ConcurrentReplay_OnlyOneRequestWins() {
+        RefreshToken current = storedToken("old-token");
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("old-token"))).thenReturn(Optional.of(current));
+        // The other request revoked the token between our read and our write.
+        when(refreshTokenRepository.revokeIfActive(eq(10L), any(LocalDateTime.class))).thenReturn(0);
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate("old-token"));
+
+        verify(refreshTokenRepository).revokeAllByUserId(eq(1L), any(LocalDateTime.class));
+        verify(tokenGenerator, never()).generate(anyInt());
+    }
+
+    @Test
+    void rotate_ExpiredToken_ThrowsException() {
+        RefreshToken current = storedToken("old-token");
+        current.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("old-token"))).thenReturn(Optional.of(current));
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate("old-token"));
+        verify(refreshTokenRepository, never()).revokeAllByUserId(any(), any());
+    }
+
+    @Test
+    void rotate_UnknownToken_ThrowsException() {
+        when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.empty());
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate("unknown"));
+    }
+}
@@ -0,0 +1,47 @@
+package com.optic.console.application.service;
+
+import com.optic.console.config.VerificationTokenPurgeProperties;
+import com.optic.console.infrastructure.scheduling.JobLockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerificationTokenPurgeJobTest {
+
+    @Mock
+    private VerificationTokenService verificationTokenService;
+
+    @Mock
+    private JobLockService jobLockService;
+
+    @Test
+    void run_DeletesExpiredTokensUnderItsOwnLockAndMeters() {
+        VerificationTokenPurgeProperties properties = new VerificationTokenPurgeProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VerificationTokenPurgeJob job = new VerificationTokenPurgeJob(verificationTokenService, jobLockService, properties, meterRegistry);
+        when(jobLockService.tryAcquire(VerificationTokenPurgeJob.JOB_NAME, properties.getLockLease())).thenReturn(true);
+        when(verificationTokenService.purgeExpiredBatch(any(LocalDateTime.class), anyInt())).thenReturn(42);
+
+        job.run();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(verificationTokenService).purgeExpiredBatch(cutoff.capture(), eq(properties.getBatchSize()));
+        assertTrue(cutoff.getValue().isBefore(LocalDateTime.now().minus(properties.getRetention()).plusMinutes(1)));
+        verify(jobLockService).release(VerificationTokenPurgeJob.JOB_NAME);
+        assertEquals(42, meterRegistry.get("auth.verification.tokens.purged").counter().count());
+        assertEquals(1, meterRegistry.get("auth.verification.tokens.purge.batches").counter().count());
+    }
+}
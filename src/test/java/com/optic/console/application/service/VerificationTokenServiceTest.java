@@ -1,5 +1,6 @@
 package com.optic.console.application.service;
 
+import com.optic.console.application.TokenDigest;
 import com.optic.console.application.TokenGenerator;
 import com.optic.console.domain.auth.TokenType;
 import com.optic.console.domain.auth.VerificationToken;
@@ -53,6 +54,7 @@ class VerificationTokenServiceTest {
 
         assertNotNull(result);
         assertEquals(testToken, result.getToken());
+        assertArrayEquals(TokenDigest.sha256(testToken), result.getTokenHash());
         assertEquals(testUser, result.getUser());
         assertEquals(testTokenType, result.getType());
         assertTrue(result.getExpiresAt().isAfter(LocalDateTime.now()));
@@ -83,50 +85,46 @@ class VerificationTokenServiceTest {
         verify(verificationTokenRepository).save(existingToken); // Verify old token was updated
     }
 
+    private static VerificationTokenRepository.TokenValidity validity(LocalDateTime expiresAt, LocalDateTime usedAt) {
+        return new VerificationTokenRepository.TokenValidity() {
+            @Override
+            public LocalDateTime getExpiresAt() {
+                return expiresAt;
+            }
+
+            @Override
+            public LocalDateTime getUsedAt() {
+                return usedAt;
+            }
+        };
+    }
+
     @Test
     void isValidToken_ValidToken_ReturnsTrueAndMarksAsUsed() {
-        VerificationToken token = new VerificationToken();
-        token.setToken(testToken);
-        token.setType(testTokenType);
-        token.setExpiresAt(LocalDateTime.now().plusHours(1));
-        
-        when(verificationTokenRepository.findByTokenAndType(testToken, testTokenType))
-            .thenReturn(Optional.of(token));
+        when(verificationTokenRepository.findValidityByTokenHashAndType(TokenDigest.sha256(testToken), testTokenType))
+            .thenReturn(Optional.of(validity(LocalDateTime.now().plusHours(1), null)));
 
         boolean isValid = verificationTokenService.isValidToken(testToken, testTokenType);
 
         assertTrue(isValid);
-        assertNull(token.getUsedAt());
         verify(verificationTokenRepository, never()).save(any());
     }
 
     @Test
     void isValidToken_ExpiredToken_ReturnsFalse() {
-        VerificationToken token = new VerificationToken();
-        token.setToken(testToken);
-        token.setType(testTokenType);
-        token.setExpiresAt(LocalDateTime.now().minusHours(1));
-        
-        when(verificationTokenRepository.findByTokenAndType(testToken, testTokenType))
-            .thenReturn(Optional.of(token));
+        when(verificationTokenRepository.findValidityByTokenHashAndType(TokenDigest.sha256(testToken), testTokenType))
+            .thenReturn(Optional.of(validity(LocalDateTime.now().minusHours(1), null)));
 
         boolean isValid = verificationTokenService.isValidToken(testToken, testTokenType);
 
         assertFalse(isValid);
-        assertNull(token.getUsedAt());
         verify(verificationTokenRepository, never()).save(any());
     }
 
     @Test
     void isValidToken_AlreadyUsed_ReturnsFalse() {
-        VerificationToken token = new VerificationToken();
-        token.setToken(testToken);
-        token.setType(testTokenType);
-        token.setExpiresAt(LocalDateTime.now().plusHours(1));
-        token.markAsUsed();
-        
-        when(verificationTokenRepository.findByTokenAndType(testToken, testTokenType))
-            .thenReturn(Optional.of(token));
+        when(verificationTokenRepository.findValidityByTokenHashAndType(TokenDigest.sha256(testToken), testTokenType))
+            .thenReturn(Optional.of(validity(LocalDateTime.now().plusHours(1), LocalDateTime.now())));
 
         boolean isValid = verificationTokenService.isValidToken(testToken, testTokenType);
 
@@ -136,7 +134,7 @@ class VerificationTokenServiceTest {
 
     @Test
     void isValidToken_NonExistentToken_ReturnsFalse() {
-        when(verificationTokenRepository.findByTokenAndType("nonexistent", testTokenType))
+        when(verificationTokenRepository.findValidityByTokenHashAndType(TokenDigest.sha256("nonexistent"), testTokenType))
             .thenReturn(Optional.empty());
 
         boolean isValid = verificationTokenService.isValidToken("nonexistent", testTokenType);
@@ -146,45 +144,33 @@ class VerificationTokenServiceTest {
     }
 
     @Test
-    void cleanupExpiredTokens_DeletesOldTokens() {
-        verificationTokenService.cleanupExpiredTokens();
+    void purgeExpiredBatch_DeletesOneBoundedBatch() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(7);
+        when(verificationTokenRepository.deleteExpiredBatch(cutoff, 500)).thenReturn(500);
 
-        verify(verificationTokenRepository).deleteByExpiresAtBefore(any(LocalDateTime.class));
+        assertEquals(500, verificationTokenService.purgeExpiredBatch(cutoff, 500));
     }
 
     @Test
     void isValidToken_NullTokenString_ReturnsFalse() {
-        when(verificationTokenRepository.findByTokenAndType(null, testTokenType))
-            .thenReturn(Optional.empty());
-
         boolean isValid = verificationTokenService.isValidToken(null, testTokenType);
 
         assertFalse(isValid);
-        verify(verificationTokenRepository).findByTokenAndType(null, testTokenType);
-        verify(verificationTokenRepository, never()).save(any());
+        verifyNoInteractions(verificationTokenRepository);
     }
 
     @Test
     void isValidToken_NullTokenType_ReturnsFalse() {
-        when(verificationTokenRepository.findByTokenAndType(testToken, null))
-            .thenReturn(Optional.empty());
-
         boolean isValid = verificationTokenService.isValidToken(testToken, null);
 
         assertFalse(isValid);
-        verify(verificationTokenRepository).findByTokenAndType(testToken, null);
-        verify(verificationTokenRepository, never()).save(any());
+        verifyNoInteractions(verificationTokenRepository);
     }
 
     @Test
     void isValidToken_ExpiredButNotUsed_ReturnsFalse() {
-        VerificationToken token = new VerificationToken();
-        token.setToken(testToken);
-        token.setType(testTokenType);
-        token.setExpiresAt(LocalDateTime.now().minusSeconds(1)); // Just expired
-        
-        when(verificationTokenRepository.findByTokenAndType(testToken, testTokenType))
-            .thenReturn(Optional.of(token));
+        when(verificationTokenRepository.findValidityByTokenHashAndType(TokenDigest.sha256(testToken), testTokenType))
+            .thenReturn(Optional.of(validity(LocalDateTime.now().minusSeconds(1), null))); // Just expired
 
         boolean isValid = verificationTokenService.isValidToken(testToken, testTokenType);
 
@@ -192,6 +178,15 @@ class VerificationTokenServiceTest {
         verify(verificationTokenRepository, never()).save(any());
     }
 
+    @Test
+    void getToken_LooksUpByHash() {
+        VerificationToken token = new VerificationToken();
+        when(verificationTokenRepository.findByTokenHashAndType(TokenDigest.sha256(testToken), testTokenType))
+            .thenReturn(Optional.of(token));
+
+        assertSame(token, verificationTokenService.getToken(testToken, testTokenType).orElseThrow());
+    }
+
     @Test
     void createToken_WithVeryShortValidity_SetsCorrectExpiration() {
         Duration shortValidity = Duration.ofMinutes(5);
@@ -222,4 +217,26 @@ class VerificationTokenServiceTest {
         assertTrue(result.getExpiresAt().isAfter(expectedMin) && result.getExpiresAt().isBefore(expectedMax),
                 "Expiration should be approximately 30 days from now");
     }
+
+    @Test
+    void findRecentToken_TokenWithinWindow_ReturnsIt() {
+        VerificationToken token = new VerificationToken();
+        token.setExpiresAt(LocalDateTime.now().plusHours(1));
+        token.setCreatedAt(LocalDateTime.now().minusMinutes(5));
+        when(verificationTokenRepository.findByUserAndTypeAndUsedAtIsNull(testUser, testTokenType))
+                .thenReturn(Optional.of(token));
+
+        assertTrue(verificationTokenService.findRecentToken(testUser, testTokenType, Duration.ofMinutes(15)).isPresent());
+    }
+
+    @Test
+    void findRecentToken_TokenOlderThanWindow_ReturnsEmpty() {
+        VerificationToken token = new VerificationToken();
+        token.setExpiresAt(LocalDateTime.now().plusHours(1));
+        token.setCreatedAt(LocalDateTime.now().minusMinutes(30));
+        when(verificationTokenRepository.findByUserAndTypeAndUsedAtIsNull(testUser, testTokenType))
+                .thenReturn(Optional.of(token));
+
+        assertTrue(verificationTokenService.findRecentToken(testUser, testTokenType, Duration.ofMinutes(15)).isEmpty());
+    }
 }
@@ -0,0 +1,117 @@
+package com.optic.console.domain.auth;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the query plans of the verification token lookups against the migrated schema.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class VerificationTokenIndexTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:13");
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO users (first_name, last_name, email, password, status)
+                    SELECT 'Test', 'User', 'user' || g || '@example.com', 'hash', 'ACTIVE'
+                    FROM generate_series(1, 200) g
+                    """);
+            statement.execute("""
+                    INSERT INTO verification_tokens (token_hash, type, expires_at, used_at, created_at, user_id)
+                    SELECT sha256(convert_to('token-' || g, 'UTF8')),
+                           CASE WHEN g % 2 = 0 THEN 'PASSWORD_RESET' ELSE 'EMAIL_VERIFICATION' END,
+                           now() + (g % 48 - 24) * interval '1 hour',
+                           CASE WHEN g % 10 = 0 THEN NULL ELSE now() END,
+                           now(),
+                           (SELECT min(id) FROM users) + g % 200
+                    FROM generate_series(1, 20000) g
+                    """);
+            statement.execute("VACUUM ANALYZE verification_tokens");
+        }
+    }
+
+    @Test
+    void validityCheckByHash_IsIndexOnly() throws SQLException {
+        String plan = explain("""
+                SELECT expires_at, used_at FROM verification_tokens
+                WHERE token_hash = sha256(convert_to('token-42', 'UTF8')) AND type = 'PASSWORD_RESET'
+                """);
+
+        assertTrue(plan.contains("Index Only Scan using uq_verification_tokens_token_hash"), plan);
+    }
+
+    @Test
+    void outstandingTokenExistsCheck_IsIndexOnlyOnPartialIndex() throws SQLException {
+        String plan = explain("""
+                SELECT id FROM verification_tokens
+                WHERE user_id = (SELECT min(id) FROM users) AND type = 'PASSWORD_RESET' AND used_at IS NULL
+                LIMIT 1
+                """);
+
+        assertTrue(plan.contains("Index Only Scan using idx_verification_tokens_user_type_unused"), plan);
+    }
+
+    @Test
+    void outstandingTokenLookup_UsesPartialIndex() throws SQLException {
+        String plan = explain("""
+                SELECT * FROM verification_tokens
+                WHERE user_id = (SELECT min(id) FROM users) AND type = 'PASSWORD_RESET' AND used_at IS NULL
+                """);
+
+        assertTrue(plan.contains("idx_verification_tokens_user_type_unused"), plan);
+    }
+
+    @Test
+    void expiredCleanup_UsesExpiresAtIndex() throws SQLException {
+        String plan = explain("""
+                DELETE FROM verification_tokens
+                WHERE id IN (
+                    SELECT id FROM verification_tokens
+                    WHERE expires_at < now() - interval '7 days'
+                    ORDER BY expires_at
+                    LIMIT 1000
+                )
+                """);
+
+        assertTrue(plan.contains("idx_verification_tokens_expires_at"), plan);
+    }
+
+    private static String explain(String sql) throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+                while (rows.next()) {
+                    plan.append(rows.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
@@ -0,0 +1,59 @@
+package com.optic.console.domain.user;
+
+import com.optic.console.infrastructure.persistence.StatementCountInspector;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bulk inserts go out as JDBC batches: ids come from the pooled sequence, so saving a
+ * hundred users takes a handful of statements instead of one per row.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StatementCountInspector.class)
+@Testcontainers(disabledWithoutDocker = true)
+class UserBatchInsertTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private StatementCountInspector statementCountInspector;
+
+    @Test
+    void saveAll_HundredUsers_IsBatched() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            users.add(User.builder()
+                    .email("bulk" + i + "@example.com")
+                    .password("hash")
+                    .firstName("Bulk")
+                    .lastName("User")
+                    .status(UserStatus.ACTIVE)
+                    .emailVerified(false)
+                    .build());
+        }
+
+        statementCountInspector.begin();
+        userRepository.saveAll(users);
+        entityManager.flush();
+        int statements = statementCountInspector.end();
+
+        assertTrue(statements <= 6, "expected batched inserts, got " + statements + " statements");
+    }
+}
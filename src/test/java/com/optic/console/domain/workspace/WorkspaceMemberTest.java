@@ -0,0 +1,34 @@
+package com.optic.console.domain.workspace;
+
+import com.optic.console.domain.auth.Role;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkspaceMemberTest {
+
+    private static WorkspaceMember memberWithRole(String slug) {
+        WorkspaceMember member = new WorkspaceMember();
+        member.setRole(Role.builder().name(slug).slug(slug).scope("workspace").build());
+        return member;
+    }
+
+    @Test
+    void roleChecks_CompareRoleSlug() {
+        assertTrue(memberWithRole("admin").isAdmin());
+        assertTrue(memberWithRole("admin").canManageMembers());
+        assertTrue(memberWithRole("Owner").isOwner());
+        assertTrue(memberWithRole("member").isMember());
+        assertFalse(memberWithRole("member").canManageSettings());
+    }
+
+    @Test
+    void roleChecks_WithoutRole_AreFalse() {
+        WorkspaceMember member = new WorkspaceMember();
+
+        assertFalse(member.isOwner());
+        assertFalse(member.isAdmin());
+        assertFalse(member.isMember());
+    }
+}
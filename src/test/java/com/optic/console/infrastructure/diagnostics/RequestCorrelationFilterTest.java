@@ -0,0 +1,46 @@
+package com.optic.console.infrastructure.diagnostics;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCorrelationFilterTest {
+
+    private final RequestCorrelationFilter filter = new RequestCorrelationFilter();
+
+    private String filterAndCaptureRequestId(MockHttpServletRequest request, MockHttpServletResponse response)
+            throws Exception {
+        AtomicReference<String> seen = new AtomicReference<>();
+        filter.doFilter(request, response, (req, res) -> seen.set(MDC.get(RequestCorrelationFilter.MDC_KEY)));
+        return seen.get();
+    }
+
+    @Test
+    void incomingRequestId_IsReused() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(RequestCorrelationFilter.HEADER, "abc-123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertEquals("abc-123", filterAndCaptureRequestId(request, response));
+        assertEquals("abc-123", response.getHeader(RequestCorrelationFilter.HEADER));
+        assertNull(MDC.get(RequestCorrelationFilter.MDC_KEY));
+    }
+
+    @Test
+    void missingOrMalformedRequestId_IsGenerated() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(RequestCorrelationFilter.HEADER, "bad id\nwith newline");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        String requestId = filterAndCaptureRequestId(request, response);
+
+        assertNotNull(requestId);
+        assertNotEquals("bad id\nwith newline", requestId);
+        assertEquals(requestId, response.getHeader(RequestCorrelationFilter.HEADER));
+    }
+}
@@ -0,0 +1,59 @@
+package com.optic.console.infrastructure.diagnostics;
+
+import com.optic.console.config.VirtualThreadDiagnosticsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final Object monitor = new Object();
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    @BeforeEach
+    void setUp() {
+        VirtualThreadDiagnosticsProperties properties = new VirtualThreadDiagnosticsProperties();
+        properties.setPinnedThreshold(Duration.ofMillis(10));
+        meterRegistry = new SimpleMeterRegistry();
+        pinningMonitor = new VirtualThreadPinningMonitor(properties, meterRegistry);
+        pinningMonitor.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pinningMonitor.destroy();
+    }
+
+    private double pinned(String jdbc) {
+        return meterRegistry.get("jvm.threads.virtual.pinned").tag("jdbc", jdbc).counter().count();
+    }
+
+    @Test
+    void blockingInsideSynchronized_IsCounted() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+        while (pinned("false") == 0 && System.nanoTime() < deadline) {
+            Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+            Thread.sleep(200);
+        }
+
+        assertTrue(pinned("false") > 0, "expected a pinned virtual thread to be reported");
+        assertEquals(0, pinned("true"));
+    }
+
+    private void sleepWhileHoldingMonitor() {
+        synchronized (monitor) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.optic.console.infrastructure.email;
+
+import com.optic.console.config.EmailOutboxProperties;
+import com.optic.console.domain.email.EmailOutboxMessage;
+import com.optic.console.domain.email.EmailOutboxStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxDispatcherTest {
+
+    @Mock
+    private EmailOutbox emailOutbox;
+
+    @Mock
+    private EmailSender emailSender;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        EmailOutboxProperties properties = new EmailOutboxProperties();
+        properties.setConcurrency(2);
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new EmailOutboxDispatcher(emailOutbox, emailSender, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.destroy();
+    }
+
+    private static EmailOutboxMessage message(long id) {
+        EmailOutboxMessage message = new EmailOutboxMessage();
+        message.setId(id);
+        message.setRecipient("test@example.com");
+        message.setSubject("Subject");
+        message.setTemplate("email/auth/email-verification");
+        message.setVariables(Map.of("verificationLink", "https://example.com"));
+        message.setAttempts(1);
+        return message;
+    }
+
+    private double dispatched(String result) {
+        return meterRegistry.get("email.outbox.dispatch").tag("result", result).counter().count();
+    }
+
+    private static OutgoingEmail email() {
+        return new OutgoingEmail("test@example.com", "Subject",
+                "email/auth/email-verification", Map.of("verificationLink", "https://example.com"));
+    }
+
+    @Test
+    void deliver_Success_MarksSent() {
+        when(emailSender.sendAll(List.of(email()))).thenReturn(List.of(SendResult.success(email())));
+
+        dispatcher.deliver(List.of(message(1)));
+
+        verify(emailOutbox).markSent(1L);
+        assertEquals(1.0, dispatched("sent"));
+    }
+
+    @Test
+    void deliver_PartialFailure_RecordsEachOutcome() {
+        when(emailSender.sendAll(anyList())).thenReturn(List.of(
+                SendResult.success(email()),
+                SendResult.failure(email(), new RuntimeException("Mailbox unavailable"))));
+        when(emailOutbox.markFailed(2L, "Mailbox unavailable")).thenReturn(EmailOutboxStatus.FAILED);
+
+        dispatcher.deliver(List.of(message(1), message(2)));
+
+        verify(emailOutbox).markSent(1L);
+        verify(emailOutbox, never()).markSent(2L);
+        assertEquals(1.0, dispatched("failed"));
+    }
+
+    @Test
+    void deliver_SmtpFailure_RecordsRetry() {
+        when(emailSender.sendAll(anyList())).thenThrow(new RuntimeException("Connection refused"));
+        when(emailOutbox.markFailed(1L, "Connection refused")).thenReturn(EmailOutboxStatus.PENDING);
+
+        dispatcher.deliver(List.of(message(1)));
+
+        verify(emailOutbox, never()).markSent(any());
+        assertEquals(1.0, dispatched("retry"));
+    }
+
+    @Test
+    void poll_ClaimsUpToFreeSlotsTimesBatchSize() {
+        when(emailOutbox.claimDue(40)).thenReturn(List.of(message(1), message(2)));
+        when(emailSender.sendAll(anyList())).thenAnswer(invocation -> {
+            List<OutgoingEmail> emails = invocation.getArgument(0);
+            return emails.stream().map(SendResult::success).toList();
+        });
+
+        dispatcher.poll();
+
+        verify(emailOutbox).claimDue(40);
+        verify(emailOutbox, timeout(2000)).markSent(1L);
+        verify(emailOutbox, timeout(2000)).markSent(2L);
+        // Two messages and two free slots: one connection each.
+        verify(emailSender, timeout(2000).times(2)).sendAll(anyList());
+    }
+}
@@ -0,0 +1,50 @@
+package com.optic.console.infrastructure.email;
+
+import com.optic.console.config.EmailOutboxProperties;
+import com.optic.console.infrastructure.scheduling.JobLockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxPurgeJobTest {
+
+    @Mock
+    private EmailOutbox emailOutbox;
+
+    @Mock
+    private JobLockService jobLockService;
+
+    @Test
+    void run_DeletesFinishedMessagesUnderItsOwnLockAndMeters() {
+        EmailOutboxProperties properties = new EmailOutboxProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EmailOutboxPurgeJob job = new EmailOutboxPurgeJob(emailOutbox, jobLockService, properties, meterRegistry);
+        when(jobLockService.tryAcquire(EmailOutboxPurgeJob.JOB_NAME, properties.getPurge().getLockLease())).thenReturn(true);
+        when(emailOutbox.purgeFinishedBatch(any(LocalDateTime.class), anyInt())).thenReturn(7);
+
+        job.run();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(emailOutbox).purgeFinishedBatch(cutoff.capture(), eq(properties.getPurge().getBatchSize()));
+        // Outbox rows are kept 14 days, not the 7 days other purges default to.
+        assertEquals(Duration.ofDays(14), properties.getPurge().getRetention());
+        assertTrue(cutoff.getValue().isBefore(LocalDateTime.now().minusDays(14).plusMinutes(1)));
+        verify(jobLockService).release(EmailOutboxPurgeJob.JOB_NAME);
+        assertEquals(7, meterRegistry.get("email.outbox.purged").counter().count());
+        assertEquals(1, meterRegistry.get("email.outbox.purge.batches").counter().count());
+    }
+}
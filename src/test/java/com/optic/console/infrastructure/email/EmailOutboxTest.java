@@ -0,0 +1,135 @@
+package com.optic.console.infrastructure.email;
+
+import com.optic.console.config.EmailOutboxProperties;
+import com.optic.console.domain.email.EmailOutboxMessage;
+import com.optic.console.domain.email.EmailOutboxRepository;
+import com.optic.console.domain.email.EmailOutboxStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxTest {
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    private EmailOutboxProperties properties;
+    private EmailOutbox emailOutbox;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmailOutboxProperties();
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(Duration.ofSeconds(10));
+        properties.setMaxBackoff(Duration.ofSeconds(60));
+        emailOutbox = new EmailOutbox(emailOutboxRepository, properties);
+    }
+
+    private EmailOutboxMessage message(int attempts) {
+        EmailOutboxMessage message = new EmailOutboxMessage();
+        message.setId(1L);
+        message.setRecipient("test@example.com");
+        message.setStatus(EmailOutboxStatus.SENDING);
+        message.setAttempts(attempts);
+        message.setVariables(new HashMap<>(Map.of("resetLink", "https://console.example.com/reset?token=secret")));
+        return message;
+    }
+
+    @Test
+    void enqueue_SavesPendingMessage() {
+        when(emailOutboxRepository.save(any(EmailOutboxMessage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        EmailOutboxMessage saved = emailOutbox.enqueue(
+                new OutgoingEmail("test@example.com", "Subject", "email/auth/email-verification", Map.of("k", "v")));
+
+        assertEquals(EmailOutboxStatus.PENDING, saved.getStatus());
+        assertEquals("email/auth/email-verification", saved.getTemplate());
+        assertEquals("v", saved.getVariables().get("k"));
+        assertEquals(0, saved.getAttempts());
+    }
+
+    @Test
+    void claimDue_MarksMessagesSendingAndCountsAttempt() {
+        EmailOutboxMessage due = message(0);
+        due.setStatus(EmailOutboxStatus.PENDING);
+        when(emailOutboxRepository.lockDue(any(LocalDateTime.class), eq(5))).thenReturn(List.of(due));
+
+        List<EmailOutboxMessage> claimed = emailOutbox.claimDue(5);
+
+        assertEquals(1, claimed.size());
+        assertEquals(EmailOutboxStatus.SENDING, due.getStatus());
+        assertEquals(1, due.getAttempts());
+        assertTrue(due.getLockedUntil().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void claimDue_NoFreeSlots_DoesNotQuery() {
+        assertTrue(emailOutbox.claimDue(0).isEmpty());
+        verifyNoInteractions(emailOutboxRepository);
+    }
+
+    @Test
+    void markFailed_BelowMaxAttempts_SchedulesRetry() {
+        EmailOutboxMessage message = message(1);
+        when(emailOutboxRepository.findById(1L)).thenReturn(Optional.of(message));
+
+        assertEquals(EmailOutboxStatus.PENDING, emailOutbox.markFailed(1L, "Connection refused"));
+
+        assertEquals("Connection refused", message.getLastError());
+        assertNull(message.getLockedUntil());
+        assertTrue(message.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(7)));
+        assertFalse(message.getVariables().isEmpty());
+    }
+
+    @Test
+    void markFailed_AtMaxAttempts_GivesUp() {
+        EmailOutboxMessage message = message(3);
+        when(emailOutboxRepository.findById(1L)).thenReturn(Optional.of(message));
+
+        assertEquals(EmailOutboxStatus.FAILED, emailOutbox.markFailed(1L, "Mailbox unavailable"));
+        assertEquals(EmailOutboxStatus.FAILED, message.getStatus());
+        assertTrue(message.getVariables().isEmpty());
+    }
+
+    @Test
+    void markSent_ClearsVariables() {
+        EmailOutboxMessage message = message(1);
+        when(emailOutboxRepository.findById(1L)).thenReturn(Optional.of(message));
+
+        emailOutbox.markSent(1L);
+
+        assertEquals(EmailOutboxStatus.SENT, message.getStatus());
+        assertNotNull(message.getSentAt());
+        assertTrue(message.getVariables().isEmpty());
+    }
+
+    @Test
+    void backoff_DoublesPerAttemptUpToMax() {
+        assertBetween(emailOutbox.backoff(1), 8, 10);
+        assertBetween(emailOutbox.backoff(2), 16, 20);
+        assertBetween(emailOutbox.backoff(3), 32, 40);
+        assertBetween(emailOutbox.backoff(4), 48, 60);
+        assertBetween(emailOutbox.backoff(40), 48, 60);
+    }
+
+    private static void assertBetween(Duration actual, long minSeconds, long maxSeconds) {
+        assertTrue(actual.compareTo(Duration.ofSeconds(minSeconds)) >= 0
+                        && actual.compareTo(Duration.ofSeconds(maxSeconds)) <= 0,
+                "Expected " + minSeconds + "-" + maxSeconds + "s but was " + actual);
+    }
+}
@@ -0,0 +1,74 @@
+package com.optic.console.infrastructure.email;
+
+import com.optic.console.config.EmailRenderingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailRendererTest {
+
+    private EmailRenderingProperties properties;
+    private EmailRenderer cachedRenderer;
+    private EmailRenderer uncachedRenderer;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        properties = new EmailRenderingProperties();
+        cachedRenderer = new EmailRenderer(templateEngine, properties);
+
+        EmailRenderingProperties uncached = new EmailRenderingProperties();
+        uncached.setStaticPartsCache(false);
+        uncachedRenderer = new EmailRenderer(templateEngine, uncached);
+    }
+
+    @Test
+    void render_InsertsFragmentIntoLayoutInOnePass() {
+        String html = uncachedRenderer.render(new OutgoingEmail("to@example.com", "Subject",
+                EmailTemplates.PASSWORD_RESET, Map.of("name", "Ada", "resetLink", "https://example.com/reset?token=abc")));
+
+        assertTrue(html.contains("<h1>Optic Console</h1>"), "Layout should be rendered");
+        assertTrue(html.contains("Hello <span>Ada</span>"));
+        assertTrue(html.contains("href=\"https://example.com/reset?token=abc\""));
+        assertFalse(html.contains("th:insert") || html.contains("th:text"), "No unprocessed attributes should remain");
+    }
+
+    @Test
+    void render_StaticPartsCache_MatchesFullRender() {
+        Map<String, String> variables = Map.of(
+                "name", "O'Brien <admin> & \"co\"",
+                "resetLink", "https://example.com/reset?token=a&b=<c>");
+        OutgoingEmail email = new OutgoingEmail("to@example.com", "Subject", EmailTemplates.PASSWORD_RESET, variables);
+
+        String expected = uncachedRenderer.render(email);
+
+        assertEquals(expected, cachedRenderer.render(email));
+        assertEquals(expected, cachedRenderer.render(email), "Second render comes from the cached parts");
+    }
+
+    @Test
+    void render_StaticPartsCache_MissingVariableMatchesFullRender() {
+        OutgoingEmail email = new OutgoingEmail("to@example.com", "Subject", EmailTemplates.EMAIL_VERIFICATION,
+                Map.of("verificationLink", "https://example.com/verify?token=xyz"));
+
+        assertEquals(uncachedRenderer.render(email), cachedRenderer.render(email));
+    }
+
+    @Test
+    void warmUp_RendersEveryKnownTemplate() {
+        assertDoesNotThrow(() -> cachedRenderer.warmUp());
+    }
+}
@@ -0,0 +1,110 @@
+package com.optic.console.infrastructure.email;
+
+import com.optic.console.config.SmtpPoolProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailSenderTest {
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private EmailRenderer emailRenderer;
+
+    private final List<Transport> connections = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private EmailSender emailSender;
+
+    @BeforeEach
+    void setUp() {
+        Session session = Session.getInstance(new Properties());
+        lenient().when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(session));
+        lenient().when(emailRenderer.render(any())).thenReturn("<p>html</p>");
+
+        SmtpTransportPool pool = new SmtpTransportPool(() -> {
+            Transport transport = mock(Transport.class);
+            lenient().when(transport.isConnected()).thenReturn(true);
+            connections.add(transport);
+            return transport;
+        }, new SmtpPoolProperties(), new SimpleMeterRegistry());
+        meterRegistry = new SimpleMeterRegistry();
+        emailSender = new EmailSender(mailSender, emailRenderer, pool, meterRegistry);
+    }
+
+    private static OutgoingEmail email(String to) {
+        return new OutgoingEmail(to, "Subject", "email/auth/email-verification", Map.of("verificationLink", "https://x"));
+    }
+
+    @Test
+    void sendAll_SendsBatchOverOneConnection() throws MessagingException {
+        List<SendResult> results = emailSender.sendAll(List.of(email("a@example.com"), email("b@example.com")));
+
+        assertTrue(results.stream().allMatch(SendResult::isSuccess));
+        assertEquals(1, connections.size());
+        verify(connections.get(0), times(2)).sendMessage(any(), any());
+        verify(mailSender, never()).send(any(MimeMessage.class));
+    }
+
+    @Test
+    void sendAll_RejectedRecipient_ContinuesBatch() throws MessagingException {
+        emailSender.sendAll(List.of(email("warm-up@example.com")));
+        Transport transport = connections.get(0);
+        doThrow(new SendFailedException("550 No such user"))
+                .doNothing()
+                .when(transport).sendMessage(any(), any());
+
+        List<SendResult> results = emailSender.sendAll(List.of(email("missing@example.com"), email("b@example.com")));
+
+        assertFalse(results.get(0).isSuccess());
+        assertTrue(results.get(1).isSuccess());
+        assertEquals(1, connections.size(), "A rejected recipient must not drop the connection");
+    }
+
+    @Test
+    void sendAll_DroppedConnection_RetriesOnFreshConnection() throws MessagingException {
+        emailSender.sendAll(List.of(email("warm-up@example.com")));
+        doThrow(new MessagingException("421 Closing connection"))
+                .when(connections.get(0)).sendMessage(any(), any(Address[].class));
+
+        List<SendResult> results = emailSender.sendAll(List.of(email("a@example.com"), email("b@example.com")));
+
+        assertTrue(results.stream().allMatch(SendResult::isSuccess));
+        assertEquals(2, connections.size());
+        verify(connections.get(1), times(2)).sendMessage(any(), any());
+    }
+
+    @Test
+    void send_AddressesMessageToRecipient() throws MessagingException {
+        emailSender.send(email("a@example.com"));
+
+        verify(connections.get(0)).sendMessage(any(), eq(new Address[]{new InternetAddress("a@example.com")}));
+        assertEquals(1, meterRegistry.get("email.send.duration").tag("outcome", "success").timer().count());
+    }
+
+    private static Address[] eq(Address[] expected) {
+        return argThat(actual -> java.util.Arrays.equals(expected, actual));
+    }
+}
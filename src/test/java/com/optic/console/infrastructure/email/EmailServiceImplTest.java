@@ -1,34 +1,37 @@
 package com.optic.console.infrastructure.email;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.thymeleaf.context.Context;
+
+import com.optic.console.config.ApplicationProperties;
 
 @ExtendWith(MockitoExtension.class)
 class EmailServiceImplTest {
 
     @Mock
-    private EmailSender emailSender;
+    private EmailOutbox emailOutbox;
+
+    @Mock
+    private ApplicationProperties applicationProperties;
 
     @InjectMocks
     private EmailServiceImpl emailService;
 
     @Captor
-    private ArgumentCaptor<Context> contextCaptor;
+    private ArgumentCaptor<OutgoingEmail> emailCaptor;
 
     private final String testEmail = "test@example.com";
     private final String testName = "Test User";
@@ -37,48 +40,45 @@ class EmailServiceImplTest {
 
     @Test
     void sendPasswordResetEmail_Success() {
-        when(emailSender.renderFragment(anyString(), any())).thenReturn("rendered-email");
-
         emailService.sendPasswordResetEmail(testEmail, testName, testResetLink);
 
-        verify(emailSender).renderFragment(eq(forgotPasswordRequestEmailTemplate), contextCaptor.capture());
-
-        Context capturedContext = contextCaptor.getValue();
-        assertEquals(testName, capturedContext.getVariable("name"));
-        assertEquals(testResetLink, capturedContext.getVariable("resetLink"));
-        assertEquals(forgotPasswordRequestEmailTemplate + " :: content", capturedContext.getVariable("content"));
-        
-        verify(emailSender).sendEmail(
-                eq(testEmail),
-                eq("Password Reset - Optic Console"),
-                eq("rendered-email")
-        );
+        verify(emailOutbox).enqueue(emailCaptor.capture());
+
+        OutgoingEmail email = emailCaptor.getValue();
+        assertEquals(testEmail, email.to());
+        assertEquals("Password Reset - Optic Console", email.subject());
+        assertEquals(forgotPasswordRequestEmailTemplate, email.template());
+        assertEquals(testName, email.variables().get("name"));
+        assertEquals(testResetLink, email.variables().get("resetLink"));
     }
 
     @Test
-    void sendPasswordResetEmail_EmptyName_StillSendsEmail() {
+    void sendPasswordResetEmail_EmptyName_StillQueuesEmail() {
         emailService.sendPasswordResetEmail(testEmail, "", testResetLink);
 
-        verify(emailSender).renderFragment(anyString(), contextCaptor.capture());
-        Context capturedContext = contextCaptor.getValue();
-        assertEquals("", capturedContext.getVariable("name"));
+        verify(emailOutbox).enqueue(emailCaptor.capture());
+        assertEquals("", emailCaptor.getValue().variables().get("name"));
     }
 
     @Test
-    void sendPasswordResetEmail_EmailSendingFails_PropagatesException() {
-        when(emailSender.renderFragment(anyString(), any())).thenReturn("rendered-email");
+    void sendPasswordResetEmail_NullName_StillQueuesEmail() {
+        emailService.sendPasswordResetEmail(testEmail, null, testResetLink);
+
+        verify(emailOutbox).enqueue(emailCaptor.capture());
+        assertFalse(emailCaptor.getValue().variables().containsKey("name"), "Name should be left unset");
+        assertEquals(testResetLink, emailCaptor.getValue().variables().get("resetLink"));
+    }
 
-        String errorMessage = "Failed to send email";
-        doThrow(new RuntimeException(errorMessage))
-            .when(emailSender).sendEmail(anyString(), anyString(), anyString());
+    @Test
+    void sendPasswordResetEmail_OutboxWriteFails_PropagatesException() {
+        String errorMessage = "Could not write outbox row";
+        doThrow(new RuntimeException(errorMessage)).when(emailOutbox).enqueue(any());
 
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
             emailService.sendPasswordResetEmail(testEmail, testName, testResetLink);
         });
-        
+
         assertEquals(errorMessage, exception.getMessage());
-        verify(emailSender).renderFragment(eq(forgotPasswordRequestEmailTemplate), any());
-        verify(emailSender).sendEmail(anyString(), anyString(), anyString());
     }
 
     @Test
@@ -86,6 +86,7 @@ class EmailServiceImplTest {
         assertThrows(NullPointerException.class, () -> {
             emailService.sendPasswordResetEmail(null, testName, testResetLink);
         });
+        verifyNoInteractions(emailOutbox);
     }
 
     @Test
@@ -96,24 +97,15 @@ class EmailServiceImplTest {
     }
 
     @Test
-    void sendPasswordResetEmail_NullName_StillSendsEmail() {
-        when(emailSender.renderFragment(anyString(), any())).thenReturn("rendered-email");
-
-        emailService.sendPasswordResetEmail(testEmail, null, testResetLink);
-
-        verify(emailSender).renderFragment(anyString(), contextCaptor.capture());
-        Context capturedContext = contextCaptor.getValue();
-        assertNull(capturedContext.getVariable("name"), "Name should be null");
-        assertEquals(testResetLink, capturedContext.getVariable("resetLink"));
-        verify(emailSender).sendEmail(eq(testEmail), eq("Password Reset - Optic Console"), eq("rendered-email"));
-    }
-
-    @Test
-    void sendPasswordResetEmail_RenderFragmentReturnsNull_HandlesGracefully() {
-        when(emailSender.renderFragment(anyString(), any())).thenReturn(null);
+    void sendEmailVerificationEmail_QueuesVerificationTemplate() {
+        when(applicationProperties.getName()).thenReturn("Optic Console");
 
-        emailService.sendPasswordResetEmail(testEmail, testName, testResetLink);
+        emailService.sendEmailVerificationEmail(testEmail, "https://example.com/verify?token=abc");
 
-        verify(emailSender).sendEmail(eq(testEmail), eq("Password Reset - Optic Console"), eq(null));
+        verify(emailOutbox).enqueue(emailCaptor.capture());
+        OutgoingEmail email = emailCaptor.getValue();
+        assertEquals("Verify your Email - Optic Console", email.subject());
+        assertEquals("email/auth/email-verification", email.template());
+        assertEquals("https://example.com/verify?token=abc", email.variables().get("verificationLink"));
     }
 }
@@ -0,0 +1,109 @@
+package com.optic.console.infrastructure.email;
+
+import com.optic.console.config.SmtpPoolProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SmtpTransportPoolTest {
+
+    private SmtpPoolProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private List<Transport> opened;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SmtpPoolProperties();
+        properties.setMaxConnections(2);
+        properties.setBorrowTimeout(Duration.ofMillis(100));
+        meterRegistry = new SimpleMeterRegistry();
+        opened = new ArrayList<>();
+    }
+
+    private SmtpTransportPool pool() {
+        return new SmtpTransportPool(() -> {
+            Transport transport = mock(Transport.class);
+            when(transport.isConnected()).thenReturn(true);
+            opened.add(transport);
+            return transport;
+        }, properties, meterRegistry);
+    }
+
+    @Test
+    void execute_ReusesConnectionAcrossCalls() throws MessagingException {
+        SmtpTransportPool pool = pool();
+        List<Transport> used = new ArrayList<>();
+
+        pool.execute(used::add);
+        pool.execute(used::add);
+
+        assertEquals(1, opened.size());
+        assertSame(used.get(0), used.get(1));
+        assertEquals(1.0, meterRegistry.get("email.smtp.pool.connections.opened").counter().count());
+    }
+
+    @Test
+    void execute_CallbackFails_ClosesConnection() throws MessagingException {
+        SmtpTransportPool pool = pool();
+
+        assertThrows(MessagingException.class, () -> pool.execute(transport -> {
+            throw new MessagingException("421 Service not available");
+        }));
+
+        verify(opened.get(0)).close();
+        assertEquals(0, pool.idleCount());
+
+        pool.execute(transport -> { });
+        assertEquals(2, opened.size(), "A broken connection must not be reused");
+    }
+
+    @Test
+    void execute_StaleConnection_IsReplacedAfterFailedHealthCheck() throws MessagingException {
+        properties.setValidateAfterIdle(Duration.ZERO);
+        SmtpTransportPool pool = pool();
+        pool.execute(transport -> { });
+        when(opened.get(0).isConnected()).thenReturn(false);
+
+        pool.execute(transport -> assertNotSame(opened.get(0), transport));
+
+        verify(opened.get(0)).close();
+        assertEquals(2, opened.size());
+    }
+
+    @Test
+    void evictIdle_ClosesConnectionsPastIdleTimeout() throws MessagingException {
+        properties.setIdleTimeout(Duration.ZERO);
+        SmtpTransportPool pool = pool();
+        pool.execute(transport -> { });
+
+        pool.evictIdle();
+
+        assertEquals(0, pool.idleCount());
+        verify(opened.get(0)).close();
+    }
+
+    @Test
+    void execute_AllConnectionsBusy_TimesOut() throws MessagingException {
+        properties.setMaxConnections(1);
+        SmtpTransportPool pool = pool();
+
+        pool.execute(outer -> assertThrows(MessagingException.class, () -> pool.execute(inner -> { })));
+    }
+
+    @Test
+    void constructor_NonJavaMailSenderImpl_DisablesPooling() {
+        SmtpTransportPool pool = new SmtpTransportPool(mock(JavaMailSender.class), properties, meterRegistry);
+
+        assertFalse(pool.isEnabled());
+    }
+}
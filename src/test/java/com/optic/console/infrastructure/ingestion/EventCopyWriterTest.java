@@ -0,0 +1,30 @@
+package com.optic.console.infrastructure.ingestion;
+
+import com.optic.console.domain.ingestion.CapturedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EventCopyWriterTest {
+
+    @Test
+    void encode_QuotesTextAndLeavesMissingPropertiesNull() {
+        UUID uuid = UUID.fromString("0b6f2d4e-4c52-4a57-9a77-0f5b0c1f9a10");
+        Instant at = Instant.parse("2025-01-01T12:00:00Z");
+        List<CapturedEvent> events = List.of(
+                new CapturedEvent(7L, uuid, "clicked \"buy\"", "u,1", "{\"a\":\"line\\nbreak\"}", at, at),
+                new CapturedEvent(7L, uuid, "multi\nline", "u2", null, at, at));
+
+        StringBuilder csv = new StringBuilder();
+        EventCopyWriter.encode(events, csv);
+
+        String expected = "7,0b6f2d4e-4c52-4a57-9a77-0f5b0c1f9a10,\"clicked \"\"buy\"\"\",\"u,1\","
+                + "\"{\"\"a\"\":\"\"line\\nbreak\"\"}\",2025-01-01T12:00:00Z,2025-01-01T12:00:00Z\n"
+                + "7,0b6f2d4e-4c52-4a57-9a77-0f5b0c1f9a10,\"multi\nline\",\"u2\",,2025-01-01T12:00:00Z,2025-01-01T12:00:00Z\n";
+        assertEquals(expected, csv.toString());
+    }
+}
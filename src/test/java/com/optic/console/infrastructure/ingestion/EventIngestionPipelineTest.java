@@ -0,0 +1,140 @@
+package com.optic.console.infrastructure.ingestion;
+
+import com.optic.console.config.IngestionProperties;
+import com.optic.console.domain.ingestion.CapturedEvent;
+import com.optic.console.infrastructure.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class EventIngestionPipelineTest {
+
+    private final EventCopyWriter writer = mock(EventCopyWriter.class);
+    private EventIngestionPipeline pipeline;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (pipeline != null) {
+            pipeline.destroy();
+        }
+    }
+
+    private EventIngestionPipeline pipeline(int capacity) {
+        IngestionProperties properties = new IngestionProperties();
+        properties.setBufferCapacity(capacity);
+        properties.setBatchSize(100);
+        properties.setFlushInterval(Duration.ofMillis(10));
+        properties.setWriters(1);
+        pipeline = new EventIngestionPipeline(writer, properties, new SimpleMeterRegistry());
+        return pipeline;
+    }
+
+    private static List<CapturedEvent> events(int count) {
+        Instant now = Instant.now();
+        return IntStream.range(0, count)
+                .mapToObj(i -> new CapturedEvent(1L, UUID.randomUUID(), "e" + i, "u", null, now, now))
+                .toList();
+    }
+
+    @Test
+    void enqueue_CompletesReceiptAfterWrite() throws Exception {
+        List<CapturedEvent> events = events(3);
+        List<List<CapturedEvent>> written = new CopyOnWriteArrayList<>();
+        // The writer reuses its batch list, so record a copy of what it was given.
+        when(writer.write(anyList())).thenAnswer(invocation -> {
+            written.add(List.copyOf(invocation.<List<CapturedEvent>>getArgument(0)));
+            return 3L;
+        });
+
+        pipeline(10).enqueue(events).completion().get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(events), written);
+    }
+
+    @Test
+    void failedWrite_FailsReceipt() throws Exception {
+        when(writer.write(anyList())).thenThrow(new SQLException("connection refused"));
+
+        IngestionReceipt receipt = pipeline(10).enqueue(events(2));
+
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> receipt.completion().get(5, TimeUnit.SECONDS));
+        assertInstanceOf(SQLException.class, failure.getCause());
+        verify(writer, times(1)).write(anyList());
+    }
+
+    @Test
+    void rejectedRow_FailsOnlyItsOwnRequest() throws Exception {
+        CapturedEvent bad = new CapturedEvent(2L, UUID.randomUUID(), "bad", "u", null, Instant.now(), Instant.now());
+        when(writer.write(anyList())).thenAnswer(invocation -> {
+            if (invocation.<List<CapturedEvent>>getArgument(0).contains(bad)) {
+                throw new SQLException("date/time field value out of range", "22008");
+            }
+            return 1L;
+        });
+        pipeline(10);
+        List<IngestionReceipt> receipts = new ArrayList<>();
+        receipts.add(new IngestionReceipt(2));
+        receipts.add(new IngestionReceipt(1));
+        receipts.add(new IngestionReceipt(1));
+        List<CapturedEvent> good = events(3);
+
+        pipeline.flush(List.of(good.get(0), good.get(1), bad, good.get(2)),
+                List.of(receipts.get(0), receipts.get(0), receipts.get(1), receipts.get(2)));
+
+        assertDoesNotThrow(() -> receipts.get(0).completion().get(0, TimeUnit.SECONDS));
+        assertTrue(receipts.get(1).completion().isCompletedExceptionally());
+        assertDoesNotThrow(() -> receipts.get(2).completion().get(0, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void fullBuffer_RejectsWholeRequestWith429() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(writer.write(anyList())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 0L;
+        });
+        pipeline(2);
+
+        IngestionReceipt first = pipeline.enqueue(events(2));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        IngestionReceipt second = pipeline.enqueue(events(2));
+
+        ServiceOverloadedException rejected = assertThrows(ServiceOverloadedException.class,
+                () -> pipeline.enqueue(events(1)));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getStatus());
+
+        release.countDown();
+        first.completion().get(5, TimeUnit.SECONDS);
+        second.completion().get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void destroy_WritesBufferedEventsAndRefusesNewOnes() throws Exception {
+        IngestionReceipt receipt = pipeline(10).enqueue(events(2));
+
+        pipeline.destroy();
+
+        assertTrue(receipt.completion().isDone());
+        assertThrows(ServiceOverloadedException.class, () -> pipeline.enqueue(events(1)));
+    }
+}
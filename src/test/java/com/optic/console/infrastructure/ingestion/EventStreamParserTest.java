@@ -0,0 +1,134 @@
+package com.optic.console.infrastructure.ingestion;
+
+import com.optic.console.config.IngestionProperties;
+import com.optic.console.domain.ingestion.CapturedEvent;
+import com.optic.console.domain.ingestion.exception.InvalidEventException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventStreamParserTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    private EventStreamParser parser;
+
+    @BeforeEach
+    void setUp() {
+        IngestionProperties properties = new IngestionProperties();
+        properties.setMaxBatchEvents(3);
+        properties.setMaxRequestBytes(4096);
+        parser = new EventStreamParser(properties);
+    }
+
+    private static InputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void parseOne_ReadsFieldsAndKeepsPropertiesAsJson() {
+        String uuid = "0b6f2d4e-4c52-4a57-9a77-0f5b0c1f9a10";
+        CapturedEvent event = parser.parseOne(json("""
+                {"event": "$pageview", "distinct_id": 42, "uuid": "%s",
+                 "timestamp": "2024-12-31T23:59:00Z", "api_key": "ignored",
+                 "properties": {"path": "/pricing", "tags": ["a", "b"], "nested": {"x": 1}}}
+                """.formatted(uuid)), 7L, NOW);
+
+        assertEquals(7L, event.projectId());
+        assertEquals("$pageview", event.event());
+        assertEquals("42", event.distinctId());
+        assertEquals(UUID.fromString(uuid), event.uuid());
+        assertEquals(Instant.parse("2024-12-31T23:59:00Z"), event.timestamp());
+        assertEquals(NOW, event.receivedAt());
+        assertEquals("{\"path\":\"/pricing\",\"tags\":[\"a\",\"b\"],\"nested\":{\"x\":1}}", event.properties());
+    }
+
+    @Test
+    void parseOne_DefaultsUuidAndTimestamp() {
+        CapturedEvent event = parser.parseOne(json("{\"event\": \"signup\", \"distinct_id\": \"u1\"}"), 7L, NOW);
+
+        assertNotNull(event.uuid());
+        assertEquals(NOW, event.timestamp());
+        assertNull(event.properties());
+    }
+
+    @Test
+    void parseBatch_AcceptsArrayOrBatchObject() {
+        List<CapturedEvent> fromArray = parser.parseBatch(json("""
+                [{"event": "a", "distinct_id": "u"}, {"event": "b", "distinct_id": "u", "timestamp": 1735732800000}]
+                """), 7L, NOW);
+        List<CapturedEvent> fromObject = parser.parseBatch(json("""
+                {"api_key": "k", "batch": [{"event": "a", "distinct_id": "u"}]}
+                """), 7L, NOW);
+
+        assertEquals(2, fromArray.size());
+        assertEquals(Instant.ofEpochMilli(1735732800000L), fromArray.get(1).timestamp());
+        assertEquals(1, fromObject.size());
+    }
+
+    @Test
+    void invalidEvents_RejectTheRequest() {
+        assertInvalid("{\"distinct_id\": \"u\"}", "event is required");
+        assertInvalid("{\"event\": \"a\"}", "distinct_id is required");
+        assertInvalid("{\"event\": \"\", \"distinct_id\": \"u\"}", "event must be");
+        assertInvalid("{\"event\": \"a\", \"distinct_id\": \"u\\u0000\"}", "distinct_id must be");
+        assertInvalid("{\"event\": \"a\", \"distinct_id\": \"u\", \"properties\": [1]}", "properties must be an object");
+        assertInvalid("{\"event\": \"a\", \"distinct_id\": \"u\", \"properties\": {\"k\": \"\\u0000\"}}", "NUL");
+        assertInvalid("{\"event\": \"a\", \"distinct_id\": \"u\", \"timestamp\": \"yesterday\"}", "timestamp");
+        assertInvalid("{\"event\": \"a\", \"distinct_id\": \"u\", \"uuid\": \"nope\"}", "uuid");
+        assertInvalid("{\"event\": \"a\", \"distinct_id\": \"u\"} {}", "Unexpected content");
+        assertInvalid("{\"event\": \"a\", ", "Malformed");
+    }
+
+    @Test
+    void properties_NulCharactersAreRejectedButEscapedBackslashesAreKept() {
+        assertInvalid("{\"event\": \"a\", \"distinct_id\": \"u\", \"properties\": {\"k\\u0000\": 1}}", "NUL");
+        assertInvalid("{\"event\": \"a\", \"distinct_id\": \"u\", \"properties\": {\"k\": [{\"n\": \"x\\u0000\"}]}}", "NUL");
+
+        CapturedEvent event = parser.parseOne(
+                json("{\"event\": \"a\", \"distinct_id\": \"u\", \"properties\": {\"path\": \"C:\\\\u0000\", \"n\": [1, {\"b\": true}]}, \"uuid\": null}"),
+                7L, NOW);
+        assertEquals("{\"path\":\"C:\\\\u0000\",\"n\":[1,{\"b\":true}]}", event.properties());
+    }
+
+    @Test
+    void timestampsOutsideTheSkewWindow_AreRejected() {
+        assertInvalid("{\"event\": \"a\", \"distinct_id\": \"u\", \"timestamp\": \"+100000-01-01T00:00:00Z\"}", "within 365 days");
+        assertInvalid("{\"event\": \"a\", \"distinct_id\": \"u\", \"timestamp\": -62135596800001}", "within 365 days");
+        assertInvalid("{\"event\": \"a\", \"distinct_id\": \"u\", \"timestamp\": \"2023-12-01T00:00:00Z\"}", "within 365 days");
+        assertInvalid("{\"event\": \"a\", \"distinct_id\": \"u\", \"timestamp\": 99999999999999999999}", "timestamp");
+
+        CapturedEvent event = parser.parseOne(
+                json("{\"event\": \"a\", \"distinct_id\": \"u\", \"timestamp\": \"2025-06-01T00:00:00Z\"}"), 7L, NOW);
+        assertEquals(Instant.parse("2025-06-01T00:00:00Z"), event.timestamp());
+    }
+
+    @Test
+    void parseBatch_EnforcesLimits() {
+        String event = "{\"event\": \"a\", \"distinct_id\": \"u\"}";
+        InvalidEventException tooMany = assertThrows(InvalidEventException.class,
+                () -> parser.parseBatch(json("[" + String.join(",", event, event, event, event) + "]"), 7L, NOW));
+        assertTrue(tooMany.getMessage().contains("at most 3"));
+
+        String large = "{\"event\": \"a\", \"distinct_id\": \"u\", \"properties\": {\"p\": \"" + "x".repeat(5000) + "\"}}";
+        assertThrows(InvalidEventException.class, () -> parser.parseOne(json(large), 7L, NOW));
+
+        assertThrows(InvalidEventException.class, () -> parser.parseBatch(json("{\"events\": []}"), 7L, NOW));
+        assertTrue(parser.parseBatch(json("[]"), 7L, NOW).isEmpty());
+    }
+
+    private void assertInvalid(String body, String expectedMessage) {
+        InvalidEventException exception = assertThrows(InvalidEventException.class,
+                () -> parser.parseOne(json(body), 7L, NOW));
+        assertTrue(exception.getMessage().contains(expectedMessage),
+                () -> "expected '" + expectedMessage + "' in '" + exception.getMessage() + "'");
+    }
+}
@@ -0,0 +1,108 @@
+package com.optic.console.infrastructure.persistence;
+
+import com.optic.console.api.auth.AuthController;
+import com.optic.console.infrastructure.security.AuthenticatedUser;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InstrumentedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InstrumentedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new InstrumentedDataSource(target, meterRegistry);
+        when(target.getConnection()).thenReturn(connection);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private Timer timer(String name, String endpoint) {
+        return meterRegistry.get(name).tag("endpoint", endpoint).timer();
+    }
+
+    @Test
+    void getConnection_InsideHandler_TagsControllerMethod() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(mock(AuthController.class), AuthController.class.getMethod("getCurrentUser",
+                        AuthenticatedUser.class, String.class)));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        try (Connection ignored = dataSource.getConnection()) {
+            assertEquals(1, timer("db.connection.acquire", "AuthController.getCurrentUser").count());
+            assertEquals(0, timer("db.connection.hold", "AuthController.getCurrentUser").count());
+        }
+
+        assertEquals(1, timer("db.connection.hold", "AuthController.getCurrentUser").count());
+        verify(connection).close();
+    }
+
+    @Test
+    void getConnection_BeforeHandlerIsChosen_TagsFilter() throws Exception {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        dataSource.getConnection().close();
+
+        assertEquals(1, timer("db.connection.hold", InstrumentedDataSource.ENDPOINT_FILTER).count());
+    }
+
+    @Test
+    void getConnection_OutsideRequest_TagsBackground() throws Exception {
+        dataSource.getConnection().close();
+
+        assertEquals(1, timer("db.connection.acquire", InstrumentedDataSource.ENDPOINT_BACKGROUND).count());
+        assertEquals(1, timer("db.connection.hold", InstrumentedDataSource.ENDPOINT_BACKGROUND).count());
+    }
+
+    @Test
+    void close_CalledTwice_RecordsHoldOnce() throws Exception {
+        Connection wrapped = dataSource.getConnection();
+
+        wrapped.close();
+        wrapped.close();
+
+        assertEquals(1, timer("db.connection.hold", InstrumentedDataSource.ENDPOINT_BACKGROUND).count());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void otherCalls_AreDelegated() throws Exception {
+        when(connection.getAutoCommit()).thenReturn(false);
+
+        Connection wrapped = dataSource.getConnection();
+
+        assertFalse(wrapped.getAutoCommit());
+        assertEquals(wrapped, wrapped);
+        assertNotEquals(wrapped, connection);
+    }
+}
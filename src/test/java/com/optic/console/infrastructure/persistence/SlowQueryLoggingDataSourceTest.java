@@ -0,0 +1,118 @@
+package com.optic.console.infrastructure.persistence;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.optic.console.config.SlowQueryLogProperties;
+import com.optic.console.infrastructure.diagnostics.RequestCorrelationFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SlowQueryLoggingDataSourceTest {
+
+    private static final String SQL = "select *\n  from users where email = ?";
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SlowQueryLogProperties properties;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new SlowQueryLogProperties();
+        properties.setThreshold(Duration.ZERO);
+
+        appender = new ListAppender<>();
+        appender.start();
+        ((Logger) LoggerFactory.getLogger(SlowQueryLoggingDataSource.LOGGER_NAME)).addAppender(appender);
+
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(SQL)).thenReturn(statement);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((Logger) LoggerFactory.getLogger(SlowQueryLoggingDataSource.LOGGER_NAME)).detachAppender(appender);
+        MDC.clear();
+    }
+
+    private void runQuery() throws Exception {
+        DataSource dataSource = new SlowQueryLoggingDataSource(target, properties, meterRegistry);
+        try (Connection wrapped = dataSource.getConnection();
+             PreparedStatement prepared = wrapped.prepareStatement(SQL)) {
+            prepared.setString(1, "alice@example.com");
+            prepared.executeQuery();
+        }
+    }
+
+    @Test
+    void slowStatement_IsLoggedWithRedactedParametersAndRequestId() throws Exception {
+        MDC.put(RequestCorrelationFilter.MDC_KEY, "req-1");
+
+        runQuery();
+
+        assertEquals(1, appender.list.size());
+        String line = appender.list.get(0).getFormattedMessage();
+        assertTrue(line.contains("sql=\"select * from users where email = ?\""), line);
+        assertTrue(line.contains("params=[1=<String>]"), line);
+        assertTrue(line.contains("request_id=req-1"), line);
+        assertTrue(line.contains("endpoint=background"), line);
+        assertFalse(line.contains("alice@example.com"), line);
+        assertEquals(1, meterRegistry.get("db.statement.slow").tag("endpoint", "background").counter().count());
+        verify(statement).executeQuery();
+    }
+
+    @Test
+    void slowStatement_WithoutRedaction_LogsValues() throws Exception {
+        properties.setRedactParameters(false);
+
+        runQuery();
+
+        assertTrue(appender.list.get(0).getFormattedMessage().contains("params=[1=alice@example.com]"));
+    }
+
+    @Test
+    void fastStatement_IsNotLogged() throws Exception {
+        properties.setThreshold(Duration.ofMinutes(1));
+
+        runQuery();
+
+        assertTrue(appender.list.isEmpty());
+        assertTrue(meterRegistry.find("db.statement.slow").counters().isEmpty());
+    }
+
+    @Test
+    void slowStatement_NotSampled_IsCountedButNotLogged() throws Exception {
+        properties.setSampleRate(0.0);
+
+        runQuery();
+
+        assertTrue(appender.list.isEmpty());
+        assertEquals(1, meterRegistry.get("db.statement.slow").counter().count());
+    }
+}
@@ -0,0 +1,70 @@
+package com.optic.console.infrastructure.persistence;
+
+import com.optic.console.config.StatementGuardProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.FilterChain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementCountGuardFilterTest {
+
+    private StatementCountInspector inspector;
+    private StatementGuardProperties properties;
+    private StatementCountGuardFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        inspector = new StatementCountInspector();
+        properties = new StatementGuardProperties();
+        properties.setMaxStatementsPerRequest(3);
+        filter = new StatementCountGuardFilter(inspector, properties);
+    }
+
+    private FilterChain runningStatements(int count) {
+        return (request, response) -> {
+            for (int i = 0; i < count; i++) {
+                inspector.inspect("select 1");
+            }
+        };
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/v1/auth/me");
+    }
+
+    @Test
+    void withinLimit_Passes() {
+        properties.setFailOnExceed(true);
+
+        assertDoesNotThrow(() -> filter.doFilter(request(), new MockHttpServletResponse(), runningStatements(3)));
+    }
+
+    @Test
+    void overLimit_FailsWhenConfigured() {
+        properties.setFailOnExceed(true);
+
+        StatementCountGuardFilter.StatementLimitExceededException exception = assertThrows(
+                StatementCountGuardFilter.StatementLimitExceededException.class,
+                () -> filter.doFilter(request(), new MockHttpServletResponse(), runningStatements(4)));
+
+        assertTrue(exception.getMessage().contains("GET /api/v1/auth/me ran 4 SQL statements"));
+    }
+
+    @Test
+    void overLimit_OnlyWarnsByDefault() {
+        assertDoesNotThrow(() -> filter.doFilter(request(), new MockHttpServletResponse(), runningStatements(10)));
+    }
+
+    @Test
+    void statementsOutsideRequest_AreNotCounted() throws Exception {
+        inspector.inspect("select 1");
+
+        filter.doFilter(request(), new MockHttpServletResponse(), runningStatements(0));
+
+        assertEquals(0, inspector.end());
+    }
+}
@@ -0,0 +1,123 @@
+package com.optic.console.infrastructure.scheduling;
+
+import com.optic.console.config.BatchPurgeProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchPurgeTest {
+
+    private static final String JOB_NAME = "test-purge";
+
+    @Mock
+    private BatchPurge.BatchDelete delete;
+
+    @Mock
+    private JobLockService jobLockService;
+
+    private BatchPurgeProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private BatchPurge purge;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BatchPurgeProperties();
+        properties.setBatchSize(100);
+        properties.setPause(Duration.ZERO);
+        meterRegistry = new SimpleMeterRegistry();
+        purge = new BatchPurge(JOB_NAME, "test", properties, delete, jobLockService, meterRegistry);
+    }
+
+    @Test
+    void run_DeletesInBatchesUntilShortBatch() {
+        when(jobLockService.tryAcquire(JOB_NAME, properties.getLockLease())).thenReturn(true);
+        when(delete.deleteBatch(any(LocalDateTime.class), eq(100))).thenReturn(100, 100, 42);
+
+        purge.run();
+
+        verify(delete, times(3)).deleteBatch(any(LocalDateTime.class), eq(100));
+        verify(jobLockService).release(JOB_NAME);
+        assertEquals(242, meterRegistry.get("test.purged").counter().count());
+        assertEquals(3, meterRegistry.get("test.purge.batches").counter().count());
+        assertEquals(1, meterRegistry.get("test.purge.duration").timer().count());
+    }
+
+    @Test
+    void run_LockHeldElsewhere_DoesNothing() {
+        when(jobLockService.tryAcquire(JOB_NAME, properties.getLockLease())).thenReturn(false);
+
+        purge.run();
+
+        verifyNoInteractions(delete);
+        verify(jobLockService, never()).release(any());
+    }
+
+    @Test
+    void run_Disabled_DoesNotTakeLock() {
+        properties.setEnabled(false);
+
+        purge.run();
+
+        verifyNoInteractions(jobLockService, delete);
+    }
+
+    @Test
+    void run_BatchFails_ReleasesLock() {
+        when(jobLockService.tryAcquire(JOB_NAME, properties.getLockLease())).thenReturn(true);
+        when(delete.deleteBatch(any(LocalDateTime.class), eq(100)))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThrows(IllegalStateException.class, purge::run);
+
+        verify(jobLockService).release(JOB_NAME);
+    }
+
+    @Test
+    void purge_InsideSafetyMargin_StartsNoBatch() {
+        properties.setLockLease(Duration.ofMinutes(10));
+
+        // One minute left is the tenth of the lease kept in reserve.
+        assertEquals(0, purge.purge(System.nanoTime() + Duration.ofMinutes(1).toNanos()));
+
+        verifyNoInteractions(delete);
+    }
+
+    @Test
+    void purge_NoBatchStartsThatCouldRunIntoTheMargin() {
+        Duration lease = Duration.ofMillis(1000);
+        long batchNanos = Duration.ofMillis(200).toNanos();
+        properties.setLockLease(lease);
+        List<Long> finished = new ArrayList<>();
+        when(delete.deleteBatch(any(LocalDateTime.class), eq(100))).thenAnswer(invocation -> {
+            Thread.sleep(Duration.ofNanos(batchNanos));
+            finished.add(System.nanoTime());
+            return 100;
+        });
+        long leaseEnd = System.nanoTime() + lease.toNanos();
+
+        purge.purge(leaseEnd);
+
+        long marginStart = leaseEnd - lease.toNanos() / 10;
+        assertFalse(finished.isEmpty());
+        // Every batch that was started also finished before the reserved tenth of the lease.
+        finished.forEach(end -> assertTrue(end < marginStart, "batch ran into the lease margin"));
+        assertTrue(finished.size() < 5);
+    }
+}
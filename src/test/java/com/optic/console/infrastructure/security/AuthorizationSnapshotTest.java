@@ -0,0 +1,66 @@
+package com.optic.console.infrastructure.security;
+
+import com.optic.console.domain.workspace.WorkspaceMemberRepository.GrantRow;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.optic.console.domain.auth.PermissionKey.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthorizationSnapshotTest {
+
+    record Row(String getScope, Long getTargetId, Long getWorkspaceId, String getRoleSlug, Long getPermissionMask)
+            implements GrantRow {
+    }
+
+    private static Row workspace(long id, String role, long mask) {
+        return new Row(GrantRow.SCOPE_WORKSPACE, id, id, role, mask);
+    }
+
+    private static Row project(long id, long workspaceId, String role, long mask) {
+        return new Row(GrantRow.SCOPE_PROJECT, id, workspaceId, role, mask);
+    }
+
+    @Test
+    void from_UsesRoleMaskPerWorkspace() {
+        AuthorizationSnapshot snapshot = AuthorizationSnapshot.from(List.of(
+                workspace(1, "admin", maskOf(MEMBERS_MANAGE, WORKSPACE_SETTINGS_MANAGE)),
+                workspace(2, "member", 0L)));
+
+        assertTrue(snapshot.hasWorkspacePermission(1, MEMBERS_MANAGE));
+        assertTrue(snapshot.hasWorkspacePermission(1, WORKSPACE_SETTINGS_MANAGE));
+        assertFalse(snapshot.hasWorkspacePermission(1, BILLING_MANAGE));
+        assertFalse(snapshot.hasWorkspacePermission(2, MEMBERS_MANAGE));
+        assertTrue(snapshot.isWorkspaceMember(2));
+        assertTrue(snapshot.hasWorkspaceRole(1, "ADMIN"));
+        assertFalse(snapshot.isWorkspaceMember(3));
+    }
+
+    @Test
+    void projectPermission_IncludesWorkspaceRole() {
+        AuthorizationSnapshot snapshot = AuthorizationSnapshot.from(List.of(
+                workspace(1, "admin", maskOf(PROJECTS_DELETE)),
+                project(10, 1, "viewer", maskOf(EVENTS_READ)),
+                project(20, 2, "viewer", maskOf(EVENTS_READ))));
+
+        assertTrue(snapshot.hasProjectPermission(10, EVENTS_READ));
+        assertTrue(snapshot.hasProjectPermission(10, PROJECTS_DELETE));
+        assertFalse(snapshot.hasProjectPermission(20, PROJECTS_DELETE));
+        assertFalse(snapshot.hasProjectPermission(30, EVENTS_READ));
+    }
+
+    @Test
+    void from_NullMask_GrantsNothing() {
+        AuthorizationSnapshot snapshot = AuthorizationSnapshot.from(List.of(
+                new Row(GrantRow.SCOPE_WORKSPACE, 1L, 1L, "member", null)));
+
+        assertTrue(snapshot.isWorkspaceMember(1));
+        assertFalse(snapshot.hasWorkspacePermission(1, WORKSPACE_VIEW));
+    }
+
+    @Test
+    void from_NoRows_IsEmpty() {
+        assertSame(AuthorizationSnapshot.EMPTY, AuthorizationSnapshot.from(List.of()));
+    }
+}
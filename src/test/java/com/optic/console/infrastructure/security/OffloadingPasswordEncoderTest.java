@@ -0,0 +1,115 @@
+package com.optic.console.infrastructure.security;
+
+import com.optic.console.config.PasswordHashingProperties;
+import com.optic.console.infrastructure.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffloadingPasswordEncoderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OffloadingPasswordEncoder encoder;
+    private CountDownLatch release;
+    private CountDownLatch started;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        release = new CountDownLatch(1);
+        started = new CountDownLatch(1);
+
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+        properties.setRetryAfterSeconds(3);
+
+        PasswordEncoder blockingDelegate = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                await(release);
+                return "hashed:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals("hashed:" + rawPassword);
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return encodedPassword.startsWith("legacy:");
+            }
+        };
+
+        encoder = new OffloadingPasswordEncoder(blockingDelegate, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    void matches_DelegatesAndRecordsMetrics() {
+        assertTrue(encoder.matches("secret", "hashed:secret"));
+        assertFalse(encoder.matches("secret", "hashed:other"));
+
+        assertEquals(2, meterRegistry.get("auth.password.hash.duration").tag("operation", "matches").timer().count());
+        assertEquals(2, meterRegistry.get("auth.password.hash.queue.wait").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void upgradeEncoding_IsDelegated() {
+        assertTrue(encoder.upgradeEncoding("legacy:abc"));
+        assertFalse(encoder.upgradeEncoding("hashed:abc"));
+    }
+
+    @Test
+    void encode_QueueFull_RejectsWithServiceUnavailable() throws Exception {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS), "First hash should occupy the only thread");
+
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        waitForQueueDepth(1);
+
+        ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+                () -> encoder.encode("third"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatus());
+        assertEquals(3, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("auth.password.hash.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("hashed:first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hashed:second", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    private void waitForQueueDepth(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password.hash.queue.depth").gauge().value() < expected) {
+            if (System.nanoTime() > deadline) {
+                fail("Queue never reached depth " + expected);
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.optic.console.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OriginMatcherTest {
+
+    @Test
+    void exactOrigins_MatchSchemeHostAndPort() {
+        OriginMatcher matcher = OriginMatcher.compile(List.of("https://example.com", "http://localhost:3000/"));
+
+        assertTrue(matcher.matches("https://example.com"));
+        assertTrue(matcher.matches("HTTPS://Example.COM"));
+        assertTrue(matcher.matches("http://localhost:3000"));
+        assertFalse(matcher.matches("http://example.com"));
+        assertFalse(matcher.matches("https://example.com:8443"));
+        assertFalse(matcher.matches("https://www.example.com"));
+        assertFalse(matcher.matches("https://example.com.evil.io"));
+        assertFalse(matcher.matches("http://localhost:30000"));
+    }
+
+    @Test
+    void wildcardOrigins_MatchSubdomainsOnly() {
+        OriginMatcher matcher = OriginMatcher.compile(List.of("https://*.example.com", "http://*.example.com:8080"));
+
+        assertTrue(matcher.matches("https://app.example.com"));
+        assertTrue(matcher.matches("https://a.b.example.com"));
+        assertTrue(matcher.matches("http://dev.example.com:8080"));
+        assertFalse(matcher.matches("https://example.com"));
+        assertFalse(matcher.matches("https://evilexample.com"));
+        assertFalse(matcher.matches("https://.example.com"));
+        assertFalse(matcher.matches("https://a..example.com"));
+        assertFalse(matcher.matches("ftp://app.example.com"));
+        assertFalse(matcher.matches("http://app.example.com"));
+        assertFalse(matcher.matches("https://evil.io/.example.com"));
+    }
+
+    @Test
+    void wildcardAndExact_ShareSuffix() {
+        OriginMatcher matcher = OriginMatcher.compile(List.of("https://*.example.com", "https://example.com"));
+
+        assertTrue(matcher.matches("https://example.com"));
+        assertTrue(matcher.matches("https://app.example.com"));
+    }
+
+    @Test
+    void star_MatchesAnyOrigin() {
+        OriginMatcher matcher = OriginMatcher.compile(List.of("*"));
+
+        assertTrue(matcher.matches("https://anything.io"));
+        assertFalse(matcher.matches(null));
+    }
+
+    @Test
+    void malformedAndEmptyEntries_AreIgnored() {
+        OriginMatcher matcher = OriginMatcher.compile(List.of("example.com", "https://", "https://app.*.com", " ", "https://ok.io"));
+
+        assertTrue(matcher.matches("https://ok.io"));
+        assertFalse(matcher.matches("https://app.x.com"));
+        assertFalse(OriginMatcher.compile(null).matches("https://ok.io"));
+        assertSame(OriginMatcher.NONE, OriginMatcher.compile(List.of()));
+    }
+}
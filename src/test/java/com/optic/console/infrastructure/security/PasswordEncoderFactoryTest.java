@@ -0,0 +1,70 @@
+package com.optic.console.infrastructure.security;
+
+import com.optic.console.config.PasswordHashingProperties;
+import com.optic.console.config.PasswordHashingProperties.PasswordHashAlgorithm;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordEncoderFactoryTest {
+
+    private static final String PASSWORD = "SecurePass123!";
+
+    private PasswordHashingProperties properties(int bcryptStrength) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setBcryptStrength(bcryptStrength);
+        return properties;
+    }
+
+    @Test
+    void encode_RecordsAlgorithmAndCostInHash() {
+        PasswordEncoder encoder = PasswordEncoderFactory.create(properties(5));
+
+        String hash = encoder.encode(PASSWORD);
+
+        assertTrue(hash.startsWith("{bcrypt}$2a$05$"), "Hash should carry algorithm id and cost: " + hash);
+        assertTrue(encoder.matches(PASSWORD, hash));
+        assertFalse(encoder.upgradeEncoding(hash));
+    }
+
+    @Test
+    void legacyUnprefixedBcryptHash_MatchesAndIsFlaggedForUpgrade() {
+        PasswordEncoder encoder = PasswordEncoderFactory.create(properties(5));
+        String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+        assertTrue(encoder.matches(PASSWORD, legacyHash));
+        assertTrue(encoder.upgradeEncoding(legacyHash));
+    }
+
+    @Test
+    void lowerCostHash_IsFlaggedForUpgrade() {
+        String weakHash = PasswordEncoderFactory.create(properties(4)).encode(PASSWORD);
+        PasswordEncoder encoder = PasswordEncoderFactory.create(properties(5));
+
+        assertTrue(encoder.matches(PASSWORD, weakHash));
+        assertTrue(encoder.upgradeEncoding(weakHash));
+    }
+
+    @Test
+    void switchingAlgorithm_OldHashesStillMatchAndAreFlaggedForUpgrade() {
+        String bcryptHash = PasswordEncoderFactory.create(properties(4)).encode(PASSWORD);
+
+        PasswordHashingProperties pbkdf2Properties = properties(4);
+        pbkdf2Properties.setAlgorithm(PasswordHashAlgorithm.PBKDF2);
+        PasswordEncoder encoder = PasswordEncoderFactory.create(pbkdf2Properties);
+
+        assertTrue(encoder.matches(PASSWORD, bcryptHash));
+        assertTrue(encoder.upgradeEncoding(bcryptHash));
+        assertTrue(encoder.encode(PASSWORD).startsWith("{pbkdf2}"));
+    }
+
+    @Test
+    void calibrateBcryptStrength_StaysWithinBounds() {
+        assertEquals(4, PasswordEncoderFactory.calibrateBcryptStrength(Duration.ZERO, 4, 6));
+        assertEquals(6, PasswordEncoderFactory.calibrateBcryptStrength(Duration.ofMinutes(1), 4, 6));
+    }
+}
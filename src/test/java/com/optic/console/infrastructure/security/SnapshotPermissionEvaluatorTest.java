@@ -0,0 +1,71 @@
+package com.optic.console.infrastructure.security;
+
+import com.optic.console.domain.user.UserStatus;
+import com.optic.console.domain.workspace.WorkspaceMemberRepository.GrantRow;
+import com.optic.console.infrastructure.security.service.AuthorizationSnapshotService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+
+import static com.optic.console.domain.auth.PermissionKey.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SnapshotPermissionEvaluatorTest {
+
+    @Mock
+    private AuthorizationSnapshotService authorizationSnapshotService;
+
+    private SnapshotPermissionEvaluator evaluator;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        evaluator = new SnapshotPermissionEvaluator(authorizationSnapshotService);
+        AuthenticatedUser user = new AuthenticatedUser(7L, "user@example.com", UserStatus.ACTIVE, true, 0, "Test", "User");
+        authentication = new UsernamePasswordAuthenticationToken(user, null, List.of());
+    }
+
+    private void snapshot(GrantRow... rows) {
+        when(authorizationSnapshotService.snapshot(7L)).thenReturn(AuthorizationSnapshot.from(List.of(rows)));
+    }
+
+    @Test
+    void workspaceTarget_ChecksRoleMask() {
+        snapshot(new AuthorizationSnapshotTest.Row(GrantRow.SCOPE_WORKSPACE, 1L, 1L, "admin", maskOf(MEMBERS_MANAGE)));
+
+        assertTrue(evaluator.hasPermission(authentication, 1L, "workspace", "members.manage"));
+        assertFalse(evaluator.hasPermission(authentication, 1L, "workspace", "billing.manage"));
+        assertFalse(evaluator.hasPermission(authentication, 2L, "workspace", "members.manage"));
+        assertFalse(evaluator.hasPermission(authentication, 1L, "invoice", "members.manage"));
+    }
+
+    @Test
+    void projectTarget_AcceptsPermissionKey() {
+        snapshot(new AuthorizationSnapshotTest.Row(GrantRow.SCOPE_PROJECT, 10L, 1L, "viewer", maskOf(EVENTS_READ)));
+
+        assertTrue(evaluator.hasPermission(authentication, 10L, "project", EVENTS_READ));
+        assertFalse(evaluator.hasPermission(authentication, 10L, "project", EVENTS_WRITE));
+    }
+
+    @Test
+    void unknownPermission_Throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> evaluator.hasPermission(authentication, 1L, "workspace", "members.promote"));
+    }
+
+    @Test
+    void anonymousCaller_IsDenied() {
+        Authentication anonymous = new UsernamePasswordAuthenticationToken("anonymousUser", null, List.of());
+
+        assertFalse(evaluator.hasPermission(anonymous, 1L, "workspace", "members.manage"));
+        verifyNoInteractions(authorizationSnapshotService);
+    }
+}
@@ -0,0 +1,202 @@
+package com.optic.console.infrastructure.security.service;
+
+import com.optic.console.config.JwtProperties;
+import com.optic.console.domain.user.User;
+import com.optic.console.domain.user.UserRepository;
+import com.optic.console.domain.user.UserStatus;
+import com.optic.console.infrastructure.security.AuthenticatedUser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticatedUserResolverTest {
+
+    private static final String TEST_SECRET = "test-secret-key-that-is-at-least-32-bytes-long-for-hs256-algorithm";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .id(42L)
+                .email("test@example.com")
+                .password("hash")
+                .firstName("Test")
+                .lastName("User")
+                .status(UserStatus.ACTIVE)
+                .emailVerified(true)
+                .build();
+    }
+
+    private JwtProperties properties(Duration claimsMaxAge) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(TEST_SECRET);
+        properties.setExpirationMillis("86400000");
+        properties.setClaimsMaxAge(claimsMaxAge);
+        return properties;
+    }
+
+    private String tokenIssuedMinutesAgo(User user, int minutes) {
+        Date issuedAt = new Date(System.currentTimeMillis() - Duration.ofMinutes(minutes).toMillis());
+        return Jwts.builder()
+                .addClaims(AuthenticatedUser.from(user).toClaims())
+                .setSubject(user.getEmail())
+                .setIssuedAt(issuedAt)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(TEST_SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Test
+    void resolve_FreshToken_UsesClaimsWithoutDatabase() {
+        JwtProperties properties = properties(Duration.ofMinutes(5));
+        JwtService jwtService = new JwtService(properties, new SimpleMeterRegistry());
+        AuthenticatedUserResolver resolver = new AuthenticatedUserResolver(jwtService, userRepository, tokenRevocationService, properties);
+
+        Optional<AuthenticatedUser> resolved = resolver.resolve(jwtService.generateToken(user, false));
+
+        assertTrue(resolved.isPresent());
+        assertEquals(42L, resolved.get().id());
+        assertEquals("test@example.com", resolved.get().email());
+        assertEquals(UserStatus.ACTIVE, resolved.get().status());
+        assertTrue(resolved.get().emailVerified());
+        assertEquals("Test", resolved.get().firstName());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void resolve_StaleToken_ChecksDatabaseOncePerWindow() {
+        JwtProperties properties = properties(Duration.ofMinutes(5));
+        JwtService jwtService = new JwtService(properties, new SimpleMeterRegistry());
+        AuthenticatedUserResolver resolver = new AuthenticatedUserResolver(jwtService, userRepository, tokenRevocationService, properties);
+        when(userRepository.findById(42L)).thenReturn(Optional.of(user));
+        String token = tokenIssuedMinutesAgo(user, 10);
+
+        assertTrue(resolver.resolve(token).isPresent());
+        assertTrue(resolver.resolve(token).isPresent());
+
+        verify(userRepository, times(1)).findById(42L);
+    }
+
+    @Test
+    void evict_DuringLoad_LoadedStateIsNotCached() {
+        JwtProperties properties = properties(Duration.ofMinutes(5));
+        JwtService jwtService = new JwtService(properties, new SimpleMeterRegistry());
+        AuthenticatedUserResolver resolver = new AuthenticatedUserResolver(jwtService, userRepository, tokenRevocationService, properties);
+        when(userRepository.findById(42L)).thenAnswer(invocation -> {
+            // The token version changes while this request is still reading the row.
+            resolver.evict(42L);
+            return Optional.of(user);
+        });
+        String token = tokenIssuedMinutesAgo(user, 10);
+
+        resolver.resolve(token);
+        resolver.resolve(token);
+
+        verify(userRepository, times(2)).findById(42L);
+    }
+
+    @Test
+    void evict_InsideTransaction_DropsStateAgainAfterCommit() {
+        JwtProperties properties = properties(Duration.ofMinutes(1));
+        JwtService jwtService = new JwtService(properties, new SimpleMeterRegistry());
+        AuthenticatedUserResolver resolver = new AuthenticatedUserResolver(jwtService, userRepository, tokenRevocationService, properties);
+        when(userRepository.findById(42L)).thenReturn(Optional.of(user));
+        String token = tokenIssuedMinutesAgo(user, 10);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            resolver.evict(42L);
+            // A request resolving before the commit still sees the old row and caches it.
+            resolver.resolve(token);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        resolver.resolve(token);
+
+        verify(userRepository, times(2)).findById(42L);
+    }
+
+    @Test
+    void resolve_StaleTokenWithOldVersion_IsRejected() {
+        JwtProperties properties = properties(Duration.ofMinutes(5));
+        JwtService jwtService = new JwtService(properties, new SimpleMeterRegistry());
+        AuthenticatedUserResolver resolver = new AuthenticatedUserResolver(jwtService, userRepository, tokenRevocationService, properties);
+        String token = tokenIssuedMinutesAgo(user, 10);
+
+        user.incrementTokenVersion();
+        when(userRepository.findById(42L)).thenReturn(Optional.of(user));
+
+        assertTrue(resolver.resolve(token).isEmpty());
+    }
+
+    @Test
+    void resolve_SuspendedUser_IsRejected() {
+        JwtProperties properties = properties(Duration.ofMinutes(5));
+        JwtService jwtService = new JwtService(properties, new SimpleMeterRegistry());
+        AuthenticatedUserResolver resolver = new AuthenticatedUserResolver(jwtService, userRepository, tokenRevocationService, properties);
+        user.setStatus(UserStatus.SUSPENDED);
+
+        assertTrue(resolver.resolve(jwtService.generateToken(user, false)).isEmpty());
+    }
+
+    @Test
+    void resolve_RevokedToken_IsRejected() {
+        JwtProperties properties = properties(Duration.ofMinutes(5));
+        JwtService jwtService = new JwtService(properties, new SimpleMeterRegistry());
+        AuthenticatedUserResolver resolver = new AuthenticatedUserResolver(jwtService, userRepository, tokenRevocationService, properties);
+        String token = jwtService.generateToken(user, false);
+        when(tokenRevocationService.isRevoked(jwtService.parseClaims(token).getId())).thenReturn(true);
+
+        assertTrue(resolver.resolve(token).isEmpty());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void resolve_LegacyTokenWithoutUserClaims_FallsBackToDatabase() {
+        JwtProperties properties = properties(Duration.ofMinutes(5));
+        JwtService jwtService = new JwtService(properties, new SimpleMeterRegistry());
+        AuthenticatedUserResolver resolver = new AuthenticatedUserResolver(jwtService, userRepository, tokenRevocationService, properties);
+        when(userRepository.findByEmailIgnoreCase("test@example.com")).thenReturn(Optional.of(user));
+
+        Optional<AuthenticatedUser> resolved = resolver.resolve(jwtService.generateToken("test@example.com", false));
+
+        assertTrue(resolved.isPresent());
+        assertEquals(42L, resolved.get().id());
+    }
+
+    @Test
+    void resolve_InvalidToken_ReturnsEmpty() {
+        JwtProperties properties = properties(Duration.ofMinutes(5));
+        JwtService jwtService = new JwtService(properties, new SimpleMeterRegistry());
+        AuthenticatedUserResolver resolver = new AuthenticatedUserResolver(jwtService, userRepository, tokenRevocationService, properties);
+
+        assertTrue(resolver.resolve("not.a.jwt").isEmpty());
+        verify(userRepository, never()).findByEmailIgnoreCase(any());
+    }
+}
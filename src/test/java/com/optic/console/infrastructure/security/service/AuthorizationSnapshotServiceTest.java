@@ -0,0 +1,99 @@
+package com.optic.console.infrastructure.security.service;
+
+import com.optic.console.config.AuthorizationCacheProperties;
+import com.optic.console.domain.auth.PermissionKey;
+import com.optic.console.domain.workspace.MembershipChangedEvent;
+import com.optic.console.domain.workspace.WorkspaceMemberRepository;
+import com.optic.console.domain.workspace.WorkspaceMemberRepository.GrantRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static com.optic.console.domain.auth.PermissionKey.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorizationSnapshotServiceTest {
+
+    @Mock
+    private WorkspaceMemberRepository workspaceMemberRepository;
+
+    private AuthorizationSnapshotService service;
+
+    record Row(String getScope, Long getTargetId, Long getWorkspaceId, String getRoleSlug, Long getPermissionMask)
+            implements GrantRow {
+    }
+
+    @BeforeEach
+    void setUp() {
+        service = new AuthorizationSnapshotService(workspaceMemberRepository,
+                new AuthorizationCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    private void grant(long userId, PermissionKey permission) {
+        when(workspaceMemberRepository.findGrantsByUserId(userId))
+                .thenReturn(List.of(new Row(GrantRow.SCOPE_WORKSPACE, 1L, 1L, "admin", permission.mask())));
+    }
+
+    @Test
+    void snapshot_IsLoadedOnceAndReused() {
+        grant(7L, MEMBERS_MANAGE);
+
+        assertTrue(service.hasWorkspacePermission(7L, 1, MEMBERS_MANAGE));
+        assertFalse(service.hasWorkspacePermission(7L, 1, BILLING_MANAGE));
+        assertFalse(service.hasWorkspacePermission(7L, 2, MEMBERS_MANAGE));
+
+        verify(workspaceMemberRepository, times(1)).findGrantsByUserId(7L);
+    }
+
+    @Test
+    void membershipChange_ReloadsOnlyThatUser() {
+        grant(7L, MEMBERS_MANAGE);
+        grant(8L, MEMBERS_MANAGE);
+        service.snapshot(7L);
+        service.snapshot(8L);
+
+        service.onMembershipChanged(MembershipChangedEvent.forUser(7L));
+        service.snapshot(7L);
+        service.snapshot(8L);
+
+        verify(workspaceMemberRepository, times(2)).findGrantsByUserId(7L);
+        verify(workspaceMemberRepository, times(1)).findGrantsByUserId(8L);
+    }
+
+    @Test
+    void roleChange_ReloadsEveryone() {
+        grant(7L, MEMBERS_MANAGE);
+        service.snapshot(7L);
+
+        service.onMembershipChanged(MembershipChangedEvent.forEveryone());
+        service.snapshot(7L);
+
+        verify(workspaceMemberRepository, times(2)).findGrantsByUserId(7L);
+    }
+
+    @Test
+    void invalidationDuringLoad_DoesNotCacheStaleSnapshot() {
+        when(workspaceMemberRepository.findGrantsByUserId(7L)).thenAnswer(invocation -> {
+            service.onMembershipChanged(MembershipChangedEvent.forUser(7L));
+            return List.of();
+        });
+
+        service.snapshot(7L);
+        service.snapshot(7L);
+
+        verify(workspaceMemberRepository, times(2)).findGrantsByUserId(7L);
+    }
+
+    @Test
+    void snapshot_WithoutUser_IsEmpty() {
+        assertFalse(service.hasWorkspacePermission(null, 1, MEMBERS_MANAGE));
+        verifyNoInteractions(workspaceMemberRepository);
+    }
+}
@@ -0,0 +1,57 @@
+package com.optic.console.infrastructure.security.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_InsertedValues_NeverFalseNegative() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String value = UUID.randomUUID().toString();
+            values.add(value);
+            filter.put(value);
+        }
+
+        values.forEach(value -> assertTrue(filter.mightContain(value)));
+    }
+
+    @Test
+    void mightContain_UnknownValues_StaysNearConfiguredRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 2_000, "False-positive rate too high: " + falsePositives + " / 100000");
+    }
+
+    @Test
+    void constructor_SizesForExpectedInsertions() {
+        BloomFilter filter = new BloomFilter(100_000, 0.01);
+
+        // ~9.6 bits and 7 hashes per entry for a 1% rate
+        assertTrue(filter.bitCount() >= 958_000 && filter.bitCount() < 960_000);
+        assertEquals(7, filter.hashCount());
+    }
+
+    @Test
+    void constructor_InvalidRate_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1));
+    }
+}
@@ -7,15 +7,20 @@ import javax.crypto.SecretKey;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import com.optic.console.config.JwtProperties;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.SignatureException;
 import io.jsonwebtoken.security.Keys;
 
 class JwtServiceTest {
@@ -32,7 +37,7 @@ class JwtServiceTest {
         JwtProperties jwtProperties = new JwtProperties();
         jwtProperties.setSecret(TEST_SECRET);
         jwtProperties.setExpirationMillis(String.valueOf(TEST_EXPIRATION));
-        jwtService = new JwtService(jwtProperties);
+        jwtService = new JwtService(jwtProperties, new SimpleMeterRegistry());
     }
 
     @Test
@@ -57,6 +62,15 @@ class JwtServiceTest {
         assertTrue(claims.getExpiration().after(new Date()), "Token expiration should be in the future");
     }
 
+    @Test
+    void generateToken_AssignsUniqueTokenId() {
+        Claims first = jwtService.parseClaims(jwtService.generateToken(TEST_EMAIL, false));
+        Claims second = jwtService.parseClaims(jwtService.generateToken(TEST_EMAIL, false));
+
+        assertNotNull(first.getId(), "Token should carry a JWT id for revocation");
+        assertNotEquals(first.getId(), second.getId());
+    }
+
     @Test
     void generateToken_DifferentEmails_GenerateDifferentTokens() {
         String token1 = jwtService.generateToken("user1@example.com", false);
@@ -75,7 +89,7 @@ class JwtServiceTest {
     @Test
     void generateToken_NullEmail_ThrowsException() {
         assertThrows(IllegalArgumentException.class, () -> {
-            jwtService.generateToken(null, null);
+            jwtService.generateToken((String) null, null);
         }, "Should throw exception for null email");
     }
 
@@ -168,7 +182,7 @@ class JwtServiceTest {
 
         // When & Then
         assertThrows(IllegalStateException.class, () -> {
-            new JwtService(jwtProperties);
+            new JwtService(jwtProperties, new SimpleMeterRegistry());
         }, "Should throw exception for empty secret");
     }
 
@@ -181,7 +195,7 @@ class JwtServiceTest {
 
         // When & Then
         assertThrows(IllegalStateException.class, () -> {
-            new JwtService(jwtProperties);
+            new JwtService(jwtProperties, new SimpleMeterRegistry());
         }, "Should throw exception for null secret");
     }
 
@@ -194,8 +208,77 @@ class JwtServiceTest {
 
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            new JwtService(jwtProperties);
+            new JwtService(jwtProperties, new SimpleMeterRegistry());
         }, "Should throw exception for secret shorter than 32 bytes");
         assertTrue(exception.getMessage().contains("too short"));
     }
+
+    @Test
+    void extractSubject_ValidToken_ReturnsSubject() {
+        String token = jwtService.generateToken(TEST_EMAIL, false);
+
+        assertEquals(TEST_EMAIL, jwtService.extractSubject(token));
+        assertEquals(TEST_EMAIL, jwtService.extractSubject(token), "Cached lookup should return the same subject");
+    }
+
+    @Test
+    void parseClaims_RepeatedValidation_ReturnsCachedClaims() {
+        String token = jwtService.generateToken(TEST_EMAIL, false);
+
+        assertSame(jwtService.parseClaims(token), jwtService.parseClaims(token));
+    }
+
+    @Test
+    void extractSubject_TamperedToken_ThrowsException() {
+        String token = jwtService.generateToken(TEST_EMAIL, false);
+        jwtService.extractSubject(token);
+
+        String[] parts = token.split("\\.");
+        String otherPayload = jwtService.generateToken("attacker@example.com", false).split("\\.")[1];
+        String tampered = parts[0] + "." + otherPayload + "." + parts[2];
+
+        assertThrows(SignatureException.class, () -> jwtService.extractSubject(tampered));
+    }
+
+    @Test
+    void extractSubject_ExpiredToken_ThrowsException() {
+        Date past = new Date(System.currentTimeMillis() - 60_000);
+        String expired = Jwts.builder()
+                .setSubject(TEST_EMAIL)
+                .setIssuedAt(new Date(past.getTime() - 60_000))
+                .setExpiration(past)
+                .signWith(TEST_KEY, SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThrows(ExpiredJwtException.class, () -> jwtService.extractSubject(expired));
+    }
+
+    @Test
+    void extractSubject_CacheDisabled_StillVerifies() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(TEST_SECRET);
+        jwtProperties.setExpirationMillis(String.valueOf(TEST_EXPIRATION));
+        jwtProperties.getClaimsCache().setEnabled(false);
+        JwtService uncached = new JwtService(jwtProperties, new SimpleMeterRegistry());
+
+        String token = uncached.generateToken(TEST_EMAIL, false);
+
+        assertEquals(TEST_EMAIL, uncached.extractSubject(token));
+    }
+
+    @Test
+    void parseClaims_CachedToken_TimesVerificationOnce() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(TEST_SECRET);
+        jwtProperties.setExpirationMillis(String.valueOf(TEST_EXPIRATION));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtService instrumented = new JwtService(jwtProperties, meterRegistry);
+
+        String token = instrumented.generateToken(TEST_EMAIL, false);
+        instrumented.parseClaims(token);
+        instrumented.parseClaims(token);
+
+        assertEquals(1, meterRegistry.get("auth.jwt.sign.duration").timer().count());
+        assertEquals(1, meterRegistry.get("auth.jwt.verify.duration").timer().count());
+    }
 }
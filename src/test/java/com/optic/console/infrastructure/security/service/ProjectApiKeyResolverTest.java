@@ -0,0 +1,111 @@
+package com.optic.console.infrastructure.security.service;
+
+import com.optic.console.application.TokenDigest;
+import com.optic.console.config.ProjectApiKeyProperties;
+import com.optic.console.domain.project.Project;
+import com.optic.console.domain.project.ProjectChangedEvent;
+import com.optic.console.domain.project.ProjectRepository;
+import com.optic.console.domain.workspace.Workspace;
+import com.optic.console.infrastructure.security.AuthenticatedProject;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectApiKeyResolverTest {
+
+    private static final String KEY = "opk_test-key";
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private ProjectApiKeyResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new ProjectApiKeyResolver(projectRepository, new ProjectApiKeyProperties(), new SimpleMeterRegistry());
+    }
+
+    private static Project project() {
+        Workspace workspace = new Workspace();
+        workspace.setId(3L);
+        return Project.builder()
+                .id(10L)
+                .workspace(workspace)
+                .apiKeyHash(TokenDigest.sha256(KEY))
+                .allowedOrigins(List.of("https://example.com"))
+                .enforceOriginCheck(true)
+                .build();
+    }
+
+    @Test
+    void resolve_KnownKey_IsLoadedOnceByHash() {
+        when(projectRepository.findActiveByApiKeyHash(aryEq(TokenDigest.sha256(KEY)))).thenReturn(Optional.of(project()));
+
+        AuthenticatedProject resolved = resolver.resolve(KEY).orElseThrow();
+        resolver.resolve(KEY);
+
+        assertEquals(10L, resolved.projectId());
+        assertEquals(3L, resolved.workspaceId());
+        assertTrue(resolved.enforceOriginCheck());
+        assertTrue(resolved.allowsOrigin("https://example.com"));
+        assertFalse(resolved.allowsOrigin("https://other.example"));
+        verify(projectRepository, times(1)).findActiveByApiKeyHash(any());
+    }
+
+    @Test
+    void resolve_UnknownKey_IsCachedAsMiss() {
+        when(projectRepository.findActiveByApiKeyHash(any())).thenReturn(Optional.empty());
+
+        assertTrue(resolver.resolve("opk_unknown").isEmpty());
+        assertTrue(resolver.resolve("opk_unknown").isEmpty());
+
+        verify(projectRepository, times(1)).findActiveByApiKeyHash(any());
+    }
+
+    @Test
+    void projectChange_DropsCachedKey() {
+        when(projectRepository.findActiveByApiKeyHash(any()))
+                .thenReturn(Optional.of(project()))
+                .thenReturn(Optional.empty());
+        resolver.resolve(KEY);
+
+        resolver.onProjectChanged(new ProjectChangedEvent(10L));
+
+        assertTrue(resolver.resolve(KEY).isEmpty());
+        verify(projectRepository, times(2)).findActiveByApiKeyHash(any());
+    }
+
+    @Test
+    void invalidationDuringLoad_DoesNotCacheStaleProject() {
+        when(projectRepository.findActiveByApiKeyHash(any())).thenAnswer(invocation -> {
+            resolver.onProjectChanged(new ProjectChangedEvent(10L));
+            return Optional.of(project());
+        });
+
+        resolver.resolve(KEY);
+        resolver.resolve(KEY);
+
+        verify(projectRepository, times(2)).findActiveByApiKeyHash(any());
+    }
+
+    @Test
+    void resolve_MissingOrOversizedKey_SkipsLookup() {
+        assertTrue(resolver.resolve(null).isEmpty());
+        assertTrue(resolver.resolve(" ").isEmpty());
+        assertTrue(resolver.resolve("k".repeat(ProjectApiKeyResolver.MAX_KEY_LENGTH + 1)).isEmpty());
+
+        verifyNoInteractions(projectRepository);
+    }
+}
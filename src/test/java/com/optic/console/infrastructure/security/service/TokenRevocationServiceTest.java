@@ -0,0 +1,140 @@
+package com.optic.console.infrastructure.security.service;
+
+import com.optic.console.config.JwtProperties;
+import com.optic.console.domain.auth.RevokedAccessToken;
+import com.optic.console.domain.auth.RevokedAccessTokenRepository;
+import com.optic.console.domain.auth.RevokedAccessTokenRepository.RevokedJti;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedAccessTokenRepository revokedAccessTokenRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenRevocationService = new TokenRevocationService(revokedAccessTokenRepository, new JwtProperties(), meterRegistry);
+    }
+
+    private static Date inOneHour() {
+        return new Date(System.currentTimeMillis() + 3_600_000);
+    }
+
+    private static RevokedJti row(long id, String jti) {
+        return new RevokedJti() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getJti() {
+                return jti;
+            }
+        };
+    }
+
+    @Test
+    void isRevoked_UnknownJti_DoesNotQueryDatabase() {
+        assertFalse(tokenRevocationService.isRevoked("never-revoked"));
+        assertFalse(tokenRevocationService.isRevoked(null));
+
+        verifyNoInteractions(revokedAccessTokenRepository);
+    }
+
+    @Test
+    void revoke_StoresJtiAndConfirmsHitsAgainstDatabase() {
+        when(revokedAccessTokenRepository.existsByJti("jti-1")).thenReturn(false, true);
+
+        tokenRevocationService.revoke("jti-1", 7L, inOneHour());
+
+        ArgumentCaptor<RevokedAccessToken> saved = ArgumentCaptor.forClass(RevokedAccessToken.class);
+        verify(revokedAccessTokenRepository).save(saved.capture());
+        assertEquals("jti-1", saved.getValue().getJti());
+        assertEquals(7L, saved.getValue().getUserId());
+
+        assertTrue(tokenRevocationService.isRevoked("jti-1"));
+        assertEquals(1.0, meterRegistry.get("auth.token.revocation.lookups").tag("result", "revoked").counter().count());
+    }
+
+    @Test
+    void revoke_ExpiredToken_IsIgnored() {
+        tokenRevocationService.revoke("jti-1", 7L, new Date(System.currentTimeMillis() - 1_000));
+
+        verifyNoInteractions(revokedAccessTokenRepository);
+    }
+
+    @Test
+    void refresh_PicksUpRevocationsFromOtherInstances() {
+        when(revokedAccessTokenRepository.findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(eq(0L), any()))
+                .thenReturn(List.of(row(1, "jti-1"), row(2, "jti-2")));
+        when(revokedAccessTokenRepository.findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(eq(1L), any()))
+                .thenReturn(List.of(row(2, "jti-2"), row(3, "jti-3")));
+        when(revokedAccessTokenRepository.existsByJti(anyString())).thenReturn(true);
+        TokenRevocationService service = withRefreshIdOverlap(1);
+
+        service.refresh();
+        service.refresh();
+
+        assertTrue(service.isRevoked("jti-1"));
+        assertTrue(service.isRevoked("jti-3"));
+    }
+
+    @Test
+    void refresh_RevocationCommittedAfterHigherId_IsStillPickedUp() {
+        // Id 2 was allocated first but committed after id 3 had been read.
+        when(revokedAccessTokenRepository.findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(eq(0L), any()))
+                .thenReturn(List.of(row(1, "jti-1"), row(3, "jti-3")));
+        when(revokedAccessTokenRepository.findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(eq(1L), any()))
+                .thenReturn(List.of(row(2, "jti-2"), row(3, "jti-3")));
+        when(revokedAccessTokenRepository.existsByJti("jti-2")).thenReturn(true);
+        TokenRevocationService service = withRefreshIdOverlap(2);
+
+        service.refresh();
+        service.refresh();
+
+        assertTrue(service.isRevoked("jti-2"));
+    }
+
+    private TokenRevocationService withRefreshIdOverlap(int overlap) {
+        JwtProperties properties = new JwtProperties();
+        JwtProperties.Revocation revocation = new JwtProperties.Revocation();
+        revocation.setRefreshIdOverlap(overlap);
+        properties.setRevocation(revocation);
+        return new TokenRevocationService(revokedAccessTokenRepository, properties, meterRegistry);
+    }
+
+    @Test
+    void rebuild_DropsEntriesNoLongerActive() {
+        when(revokedAccessTokenRepository.existsByJti("jti-1")).thenReturn(false);
+        tokenRevocationService.revoke("jti-1", 7L, inOneHour());
+        when(revokedAccessTokenRepository.findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(eq(0L), any()))
+                .thenReturn(List.of());
+
+        tokenRevocationService.rebuild();
+
+        assertFalse(tokenRevocationService.isRevoked("jti-1"));
+        verify(revokedAccessTokenRepository).deleteExpiredBefore(any());
+        verify(revokedAccessTokenRepository, times(1)).existsByJti("jti-1");
+    }
+}